@@ -0,0 +1,57 @@
+package com.adamonis.employeeservice.benchmark;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.storage.FsyncPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Opens repositories in temporary directories for benchmarks.
+ * The log is never forced to disk and never compacted, so benchmarks measure the in-memory paths.
+ */
+final class BenchmarkRepositories {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private BenchmarkRepositories() {
+    }
+
+    static EmployeeRepository open(Path dataDirectory) {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setDataDirectory(dataDirectory);
+        storageProperties.setFsyncPolicy(FsyncPolicy.NEVER);
+        storageProperties.setCompactionThreshold(Integer.MAX_VALUE);
+        return new EmployeeRepository(new ObjectMapper().findAndRegisterModules(), storageProperties,
+                new SearchProperties(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * Fills a repository with a generated dataset.
+     *
+     * @param repository the repository to fill
+     * @param size       the number of employees to create
+     * @param seed       the seed of the dataset
+     */
+    static void load(EmployeeRepository repository, int size, long seed) {
+        EmployeeDatasetGenerator generator = new EmployeeDatasetGenerator(seed);
+        for (int created = 0; created < size; created += LOAD_BATCH_SIZE) {
+            repository.createAll(generator.next(Math.min(LOAD_BATCH_SIZE, size - created)));
+        }
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
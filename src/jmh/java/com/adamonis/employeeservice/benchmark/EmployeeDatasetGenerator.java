@@ -0,0 +1,116 @@
+package com.adamonis.employeeservice.benchmark;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of synthetic employee datasets.
+ * Datasets are reproducible for a given seed. Names are built from syllables, so substring queries match
+ * a realistic fraction of them, and salaries are spread uniformly between {@link #MIN_SALARY} and
+ * {@link #MAX_SALARY}, so the fraction of employees a salary range selects is its share of that interval.
+ */
+public final class EmployeeDatasetGenerator {
+
+    public static final int MIN_SALARY = 1_000;
+    public static final int MAX_SALARY = 101_000;
+
+    private static final String[] SYLLABLES = {
+            "al", "an", "ar", "be", "ca", "da", "el", "em", "fa", "ha", "is", "ja", "ka", "la", "li", "ma",
+            "mo", "na", "ni", "om", "ra", "ri", "sa", "se", "ta", "to", "ul", "va", "ya", "za"
+    };
+    private static final Department[] DEPARTMENTS = Department.values();
+
+    private final SplittableRandom random;
+
+    public EmployeeDatasetGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Generates the next employee, without an ID.
+     *
+     * @return a new employee
+     */
+    public Employee next() {
+        LocalDate dateOfBirth = LocalDate.of(1960, 1, 1).plusDays(random.nextInt(40 * 365));
+        return Employee.builder()
+                .firstName(name())
+                .lastName(name())
+                .dateOfBirth(dateOfBirth)
+                .salary(BigDecimal.valueOf(random.nextInt(MIN_SALARY, MAX_SALARY)))
+                .joinDate(dateOfBirth.plusYears(20).plusDays(random.nextInt(20 * 365)))
+                .department(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)])
+                .build();
+    }
+
+    /**
+     * Generates a number of employees, without IDs.
+     *
+     * @param count the number of employees
+     * @return the employees
+     */
+    public List<Employee> next(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(next());
+        }
+        return employees;
+    }
+
+    /**
+     * Writes a dataset as newline-delimited JSON, ready for the bulk import endpoint.
+     * Usage: {@code EmployeeDatasetGenerator <output file> <count> [seed]}
+     *
+     * @param args the output file, the number of employees and an optional seed
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: EmployeeDatasetGenerator <output file> <count> [seed]");
+            System.exit(1);
+        }
+        Path output = Path.of(args[0]);
+        int count = Integer.parseInt(args[1]);
+        EmployeeDatasetGenerator generator = new EmployeeDatasetGenerator(args.length > 2 ? Long.parseLong(args[2]) : 42);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        try (Writer writer = Files.newBufferedWriter(output);
+             SequenceWriter sequenceWriter = objectMapper.writer()
+                     .withRootValueSeparator("\n")
+                     .writeValues(writer)) {
+            for (int i = 0; i < count; i++) {
+                Employee employee = generator.next();
+                sequenceWriter.write(new Row(employee.getFirstName(), employee.getLastName(),
+                        employee.getDateOfBirth(), employee.getSalary(), employee.getJoinDate(),
+                        employee.getDepartment()));
+            }
+        }
+    }
+
+    private String name() {
+        int syllables = 2 + random.nextInt(3);
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private record Row(String firstName, String lastName, LocalDate dateOfBirth, BigDecimal salary,
+                       LocalDate joinDate, Department department) {
+    }
+}
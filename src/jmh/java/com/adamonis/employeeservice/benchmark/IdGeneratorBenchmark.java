@@ -0,0 +1,57 @@
+package com.adamonis.employeeservice.benchmark;
+
+import com.adamonis.employeeservice.service.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID generation throughput by block size, from one thread and from several competing threads.
+ * A block size of one writes the sequence file for every ID.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGeneratorBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    public int blockSize;
+
+    private Path directory;
+    private IdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-benchmark");
+        idGenerator = new IdGenerator(directory.resolve("employee-id-sequence.txt").toString(), blockSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkRepositories.delete(directory);
+    }
+
+    @Benchmark
+    public long getNextId() {
+        return idGenerator.getNextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long getNextIdContended() {
+        return idGenerator.getNextId();
+    }
+}
@@ -0,0 +1,20 @@
+package com.adamonis.employeeservice.benchmark;
+
+import com.adamonis.employeeservice.model.Employee;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Employees to create, generated separately by every benchmark thread so threads do not contend on the generator.
+ */
+@State(Scope.Thread)
+public class NewEmployees {
+
+    private final EmployeeDatasetGenerator generator = new EmployeeDatasetGenerator(ThreadLocalRandom.current().nextLong());
+
+    Employee next() {
+        return generator.next();
+    }
+}
@@ -0,0 +1,85 @@
+package com.adamonis.employeeservice.benchmark;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Create throughput, point lookups and full scans of the repository over datasets of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path dataDirectory;
+    private EmployeeRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("employee-benchmark");
+        repository = BenchmarkRepositories.open(dataDirectory);
+        BenchmarkRepositories.load(repository, size, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        repository.close();
+        BenchmarkRepositories.delete(dataDirectory);
+    }
+
+    @Benchmark
+    public long create(NewEmployees newEmployees) {
+        return repository.create(newEmployees.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long createContended(NewEmployees newEmployees) {
+        return repository.create(newEmployees.next());
+    }
+
+    @Benchmark
+    public Optional<Employee> findById() {
+        return repository.findById(ThreadLocalRandom.current().nextLong(1, size + 1));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Employee> findByIdContended() {
+        return repository.findById(ThreadLocalRandom.current().nextLong(1, size + 1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long findAll() {
+        List<Employee> employees = repository.findAll();
+        long salaries = 0;
+        for (Employee employee : employees) {
+            salaries += employee.getSalary().longValue();
+        }
+        return salaries;
+    }
+}
@@ -0,0 +1,112 @@
+package com.adamonis.employeeservice.benchmark;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+import com.adamonis.employeeservice.service.EmployeeJsonCache;
+import com.adamonis.employeeservice.service.EmployeeSearchCacheEvictor;
+import com.adamonis.employeeservice.service.EmployeeSearchQuery;
+import com.adamonis.employeeservice.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency by dataset size and by the fraction of employees the salary range selects.
+ * The service is called directly, without the cache in front of it, so every call runs the search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"0.001", "0.01", "0.1"})
+    public double selectivity;
+
+    private Path dataDirectory;
+    private EmployeeRepository repository;
+    private EmployeeService employeeService;
+    private EmployeeSearchCriteria salaryCriteria;
+    private EmployeeSearchCriteria nameCriteria;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("employee-benchmark");
+        repository = BenchmarkRepositories.open(dataDirectory);
+        BenchmarkRepositories.load(repository, size, 1);
+        EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+        employeeService = new EmployeeService(repository, employeeMapper,
+                new EmployeeSearchCacheEvictor(new NoOpCacheManager()),
+                new EmployeeJsonCache(repository, employeeMapper, new ObjectMapper().findAndRegisterModules(),
+                        new SearchProperties(), new StorageProperties()));
+
+        BigDecimal toSalary = BigDecimal.valueOf(EmployeeDatasetGenerator.MIN_SALARY
+                + (long) ((EmployeeDatasetGenerator.MAX_SALARY - EmployeeDatasetGenerator.MIN_SALARY) * selectivity));
+        salaryCriteria = new EmployeeSearchCriteria("", BigDecimal.valueOf(EmployeeDatasetGenerator.MIN_SALARY), toSalary);
+        nameCriteria = new EmployeeSearchCriteria("mora", BigDecimal.valueOf(EmployeeDatasetGenerator.MIN_SALARY), toSalary);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        repository.close();
+        BenchmarkRepositories.delete(dataDirectory);
+    }
+
+    @Benchmark
+    public List<Employee> searchBySalary() {
+        return repository.findByCriteria(salaryCriteria);
+    }
+
+    @Benchmark
+    public List<Employee> searchByNameAndSalary() {
+        return repository.findByCriteria(nameCriteria);
+    }
+
+    @Benchmark
+    public EmployeePageDto searchFirstPage() {
+        return employeeService.searchEmployees(new EmployeeSearchQuery(salaryCriteria, null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public EmployeePageDto searchWhileCreating() {
+        return employeeService.searchEmployees(new EmployeeSearchQuery(salaryCriteria, null, PAGE_SIZE));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public long createWhileSearching(NewEmployees newEmployees) {
+        return repository.create(newEmployees.next());
+    }
+}
@@ -1,21 +1,46 @@
 package com.adamonis.employeeservice.config;
 
+import com.adamonis.employeeservice.dto.EmployeePageDto;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 @Configuration
 public class CacheConfig {
 
+    public static final String EMPLOYEES_CACHE = "employees";
+
+    /**
+     * Creates the cache manager of the search cache.
+     * The cache is bounded by the number of employees held by the cached pages rather than by the number of pages,
+     * so a few broad searches cannot take up the memory of many narrow ones. Statistics are recorded for
+     * the cache statistics endpoint. Loads are tracked, so a page computed while employees were being created is
+     * evicted if it may have missed them.
+     *
+     * @param searchProperties the search configuration holding the size and expiry of the cache
+     * @return the cache manager
+     */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("employees");
+    public CacheManager cacheManager(SearchProperties searchProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EMPLOYEES_CACHE) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new LoadTrackingCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
         cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(1, TimeUnit.HOURS));
+                .maximumWeight(searchProperties.getCacheMaximumWeight())
+                .weigher(CacheConfig::weigh)
+                .expireAfterWrite(searchProperties.getCacheExpireAfterWrite())
+                .recordStats());
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private static int weigh(Object key, Object value) {
+        // Every page weighs at least one, so empty results are bounded too
+        return value instanceof EmployeePageDto page ? page.employees().size() + 1 : 1;
+    }
+}
@@ -0,0 +1,25 @@
+package com.adamonis.employeeservice.config;
+
+import com.adamonis.employeeservice.service.EmployeeJsonCache;
+import com.adamonis.employeeservice.service.PrecomputedEmployeeSerializer;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers the serializer that writes employees from their cached JSON with the application's object mapper.
+     * The cache is looked up lazily, since it encodes employees with that same object mapper.
+     *
+     * @param employeeJsonCache provides the cache of encoded employees
+     * @return the module
+     */
+    @Bean
+    public Module precomputedEmployeeModule(ObjectProvider<EmployeeJsonCache> employeeJsonCache) {
+        return PrecomputedEmployeeSerializer.module(SingletonSupplier.of(employeeJsonCache::getObject));
+    }
+}
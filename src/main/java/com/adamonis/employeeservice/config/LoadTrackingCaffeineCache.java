@@ -0,0 +1,55 @@
+package com.adamonis.employeeservice.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Caffeine cache that keeps track of the keys whose values are being loaded.
+ * A load that started before a data change may compute its value from the old data and store it after the change
+ * evicted the affected entries. Marking such in-flight loads stale makes them evict their value once it is stored,
+ * so the next read loads it again from the current data.
+ */
+public class LoadTrackingCaffeineCache extends CaffeineCache {
+
+    private final ConcurrentHashMap<Object, Load> loads = new ConcurrentHashMap<>();
+
+    public LoadTrackingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                     boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Registered before the loader reads any data, and deregistered only once the value is stored
+        loads.merge(key, new Load(1, false), (load, started) -> new Load(load.count() + 1, load.stale()));
+        try {
+            return super.get(key, valueLoader);
+        } finally {
+            Load[] finished = new Load[1];
+            loads.computeIfPresent(key, (k, load) -> {
+                finished[0] = load;
+                return load.count() == 1 ? null : new Load(load.count() - 1, load.stale());
+            });
+            if (finished[0] != null && finished[0].stale()) {
+                evict(key);
+            }
+        }
+    }
+
+    /**
+     * Marks the loads in flight for matching keys stale, so their values are evicted as soon as they are stored.
+     * Must be called before the stored entries affected by the same change are evicted: a load that finishes
+     * in between has then stored its value in time to be evicted with them.
+     *
+     * @param affected selects the keys whose loads may have missed the change
+     */
+    public void markLoadsStale(Predicate<Object> affected) {
+        loads.replaceAll((key, load) -> affected.test(key) ? new Load(load.count(), true) : load);
+    }
+
+    private record Load(int count, boolean stale) {
+    }
+}
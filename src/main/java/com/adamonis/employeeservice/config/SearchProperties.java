@@ -0,0 +1,70 @@
+package com.adamonis.employeeservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of employee search.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-service.search")
+public class SearchProperties {
+
+    /**
+     * Whether the name criterion ignores case. Names are normalized once when they are indexed.
+     */
+    private boolean caseInsensitive;
+
+    /**
+     * Upper bound of the search cache, counted in employees held by all cached pages together.
+     */
+    private long cacheMaximumWeight = 100_000;
+
+    /**
+     * How long a cached search page is kept after it is computed. Pages affected by new employees are
+     * evicted earlier.
+     */
+    private Duration cacheExpireAfterWrite = Duration.ofHours(1);
+
+    /**
+     * Number of employees from which a scan of the whole table, or the index candidates of a search, are spread
+     * over the scan pool.
+     */
+    private int parallelScanThreshold = 100_000;
+
+    /**
+     * Number of employees in one segment of a parallel scan.
+     */
+    private int parallelScanSegmentSize = 16_384;
+
+    /**
+     * Number of threads of the scan pool shared by all parallel scans.
+     */
+    private int parallelScanPoolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of segments a single scan evaluates at the same time, the requesting thread included, so one scan
+     * cannot occupy the whole pool. A value of 1 keeps every scan sequential.
+     */
+    private int parallelScanMaxTasks = 4;
+
+    /**
+     * Whether the JSON of every employee is kept in memory once it is created or first read, so responses copy it
+     * instead of serializing the employee again. Each cached employee costs its encoded JSON plus a response object,
+     * roughly 1 KB on the heap. When unset, the cache is only enabled with the {@code heap} table layout, since
+     * the other layouts exist to keep employees off the heap.
+     */
+    private Boolean precomputedJson;
+
+    /**
+     * Number of employees, in creation order, whose JSON the precomputed JSON cache holds at most. Later employees
+     * are serialized on every read. Bounds the heap used by the cache to roughly 1 KB times this number, so it
+     * defaults to as many employees as fit in a tenth of the maximum heap.
+     */
+    private int precomputedJsonMaxEmployees =
+            (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 10 / 1024);
+}
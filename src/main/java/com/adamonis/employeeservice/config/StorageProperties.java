@@ -0,0 +1,63 @@
+package com.adamonis.employeeservice.config;
+
+import com.adamonis.employeeservice.repository.storage.FsyncPolicy;
+import com.adamonis.employeeservice.repository.storage.StorageFormat;
+import com.adamonis.employeeservice.repository.storage.TableLayout;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the employee storage engine.
+ * Controls where data files live, how appended records are flushed to disk and when the log is compacted.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-service.storage")
+public class StorageProperties {
+
+    /**
+     * Directory holding the snapshot, the write-ahead log and the ID sequence file.
+     */
+    private Path dataDirectory = Path.of(".");
+
+    /**
+     * Format of the snapshot and log records written from now on. Existing files are read in the format they were
+     * written in and migrate to this one when they are next rewritten.
+     */
+    private StorageFormat format = StorageFormat.BINARY;
+
+    /**
+     * Where employees are kept while the service runs. {@code mapped} keeps encoded rows in a memory-mapped file
+     * in the data directory and only an offset per employee on the heap, for datasets too large for the heap.
+     */
+    private TableLayout tableLayout = TableLayout.HEAP;
+
+    /**
+     * When appended log records are forced to disk.
+     */
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+    /**
+     * How often the log is forced to disk when {@link FsyncPolicy#INTERVAL} is used.
+     */
+    private Duration fsyncInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of log records after which the log is folded into a new snapshot.
+     */
+    private int compactionThreshold = 10_000;
+
+    /**
+     * Number of employee IDs reserved by a single write to the ID sequence file.
+     */
+    private int idBlockSize = 1000;
+
+    /**
+     * Number of valid rows of a bulk import persisted together with one ID block and one log write.
+     */
+    private int importBatchSize = 10_000;
+}
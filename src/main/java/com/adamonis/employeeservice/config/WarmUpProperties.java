@@ -0,0 +1,65 @@
+package com.adamonis.employeeservice.config;
+
+import com.adamonis.employeeservice.model.enums.Department;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the warm-up that runs at startup, before the service reports ready.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-service.warm-up")
+public class WarmUpProperties {
+
+    /**
+     * Whether the service exercises its request paths before it reports ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of rounds of searches and lookups run to get the request paths compiled.
+     */
+    private int iterations = 200;
+
+    /**
+     * Upper bound of the time spent on those rounds; the warm-up stops early once it is reached.
+     */
+    private Duration maxDuration = Duration.ofSeconds(10);
+
+    /**
+     * Searches whose first page is put in the search cache at startup, typically the most frequent ones.
+     * They are also part of every warm-up round.
+     */
+    private List<Query> queries = new ArrayList<>();
+
+    /**
+     * One search of the warm-up.
+     */
+    @Getter
+    @Setter
+    public static class Query {
+
+        private String name = "";
+
+        private BigDecimal fromSalary = BigDecimal.ZERO;
+
+        /**
+         * Maximum salary of the search, or null for the highest salary at startup.
+         */
+        private BigDecimal toSalary;
+
+        private Department department;
+
+        /**
+         * Page size of the search, or null for all results.
+         */
+        private Integer limit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.adamonis.employeeservice.controller;
+
+import com.adamonis.employeeservice.dto.CacheStatsDto;
+import com.adamonis.employeeservice.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing the state of the application caches.
+ */
+@RestController
+@RequestMapping("/caches")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    /**
+     * Retrieves the statistics of the employee search cache.
+     *
+     * @return a response entity containing the hit, miss, eviction and load figures of the cache with status 200 OK
+     */
+    @GetMapping("/employees/stats")
+    public ResponseEntity<CacheStatsDto> getEmployeeSearchCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getSearchCacheStats());
+    }
+}
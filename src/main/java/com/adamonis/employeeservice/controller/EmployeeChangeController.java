@@ -0,0 +1,68 @@
+package com.adamonis.employeeservice.controller;
+
+import com.adamonis.employeeservice.dto.EmployeeChangePageDto;
+import com.adamonis.employeeservice.service.EmployeeChangeService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * Controller exposing the stream of employee changes, for consumers that only need what changed since they
+ * last looked.
+ */
+@RestController
+@RequestMapping("/employees/changes")
+@RequiredArgsConstructor
+@Validated
+public class EmployeeChangeController {
+
+    private static final int MAX_WAIT_SECONDS = 30;
+
+    private final EmployeeChangeService employeeChangeService;
+
+    /**
+     * Retrieves the changes after an offset. With a wait, the request is held until a change arrives or the wait
+     * expires, so a consumer can long-poll without busy looping.
+     *
+     * @param after       the sequence number of the last change already seen, or 0 to start from the first
+     * @param limit       the maximum number of changes to return
+     * @param waitSeconds the maximum time to wait for a change when none follows the offset
+     * @return a response entity containing the changes and the offset of the next request with status 200 OK
+     */
+    @GetMapping
+    public ResponseEntity<EmployeeChangePageDto> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(EmployeeChangeService.MAX_BATCH_SIZE) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_WAIT_SECONDS) int waitSeconds
+    ) {
+        return ResponseEntity.ok(employeeChangeService.getChanges(after, limit, Duration.ofSeconds(waitSeconds)));
+    }
+
+    /**
+     * Streams the changes after an offset as server-sent events.
+     * Selected with {@code Accept: text/event-stream}. A reconnecting client resumes from its
+     * {@code Last-Event-ID} header, which takes precedence over the {@code after} parameter.
+     *
+     * @param lastEventId the id of the last event received on a previous connection
+     * @param after       the sequence number of the last change already seen, or 0 to start from the first
+     * @return the emitter streaming one event per change
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) @Min(0) Long lastEventId,
+            @RequestParam(defaultValue = "0") @Min(0) long after
+    ) {
+        return employeeChangeService.streamChanges(lastEventId != null ? lastEventId : after);
+    }
+}
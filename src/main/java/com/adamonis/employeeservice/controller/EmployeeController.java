@@ -1,23 +1,46 @@
 package com.adamonis.employeeservice.controller;
 
+import com.adamonis.employeeservice.dto.BulkImportResponseDto;
+import com.adamonis.employeeservice.dto.EmployeeBatchResponseDto;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
 import com.adamonis.employeeservice.dto.EmployeeRequestDto;
 import com.adamonis.employeeservice.dto.EmployeeResponseDto;
 import com.adamonis.employeeservice.dto.NewEmployeeResponseDto;
 import com.adamonis.employeeservice.exception.EmployeeNotFoundException;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.DataVersion;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+import com.adamonis.employeeservice.service.EmployeeImportService;
+import com.adamonis.employeeservice.service.EmployeeSearchQuery;
 import com.adamonis.employeeservice.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
 
 /**
  * Controller for managing employee operations.
- * Handles requests for creating, retrieving, and searching employees.
+ * Handles requests for creating, bulk importing, retrieving, and searching employees.
  */
 @RestController
 @RequestMapping("/employees")
@@ -25,7 +48,13 @@ import java.util.List;
 @Validated
 public class EmployeeController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new employee.
@@ -38,38 +67,170 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(employeeRequestDto));
     }
 
+    /**
+     * Creates employees in bulk.
+     * The body is streamed and may be a JSON array of employees or newline-delimited JSON with one employee per line.
+     *
+     * @param body the request body containing the employees to be created
+     * @return a response entity containing the outcome of every row with status 200 OK;
+     * rows that fail validation are reported individually and do not prevent the other rows from being created
+     */
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResponseDto> importEmployees(InputStream body) {
+        return ResponseEntity.ok(employeeImportService.importEmployees(body));
+    }
+
     /**
      * Retrieves employee details by their ID.
+     * The response carries an entity tag derived from the version of the employee; a request whose
+     * {@code If-None-Match} header holds that tag is answered with status 304 Not Modified and no body.
      *
-     * @param id the ID of the employee
+     * @param id          the ID of the employee
+     * @param ifNoneMatch the entity tags the client already holds, or null
      * @return a response entity containing the employee details with status 200 OK if the employee is found,
-     * or status 404 Not Found if the employee is not found
+     * status 304 Not Modified if the client holds the current details, or status 404 Not Found if the employee
+     * is not found
      * @throws EmployeeNotFoundException if the employee with the given ID is not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponseDto> getEmployeeById(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeResponseDto> getEmployeeById(
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch
+    ) {
+        String entityTag = entityTag(employeeService.getEmployeeVersion(id));
+        if (matchesAny(ifNoneMatch, entityTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(entityTag)
+                .body(employeeService.getEmployeeById(id));
+    }
+
+    /**
+     * Retrieves the details of many employees at once.
+     * All IDs are resolved against the same state of the data, so the response never mixes employees from before
+     * and after a concurrent create.
+     *
+     * @param ids the IDs of the employees, at most {@value #MAX_BATCH_SIZE}
+     * @return a response entity containing the employees found and the IDs that were not found with status 200 OK
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<EmployeeBatchResponseDto> getEmployeesByIds(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull Long> ids) {
+        return ResponseEntity.ok(employeeService.getEmployeesByIds(ids));
     }
 
     /**
      * Searches for employees based on the provided parameters.
+     * Results are ordered by ID. When a limit is given and more results follow, the cursor of the next page
+     * is returned in the {@value #NEXT_CURSOR_HEADER} header. The response carries the data version as entity tag
+     * and the time of the last change as last modification date. A request whose {@code If-None-Match} header holds
+     * the current tag is answered with status 304 Not Modified without running the search.
+     *
+     * @param name        the name or surname of the employee to search for
+     * @param fromSalary  the minimum salary for filtering
+     * @param toSalary    the maximum salary for filtering
+     * @param department  the department to search in, or null for every department
+     * @param cursor      the cursor returned with the previous page, or null for the first page
+     * @param limit       the maximum number of employees to return, or null for all of them
+     * @param ifNoneMatch the entity tags the client already holds, or null
+     * @return a list of employees that match the search criteria with status 200 OK,
+     * or status 304 Not Modified if no employee was created since the client fetched it
+     * @throws IllegalArgumentException if fromSalary is greater than toSalary or the cursor is invalid
+     */
+    @GetMapping
+    public ResponseEntity<List<EmployeeResponseDto>> searchEmployees(
+            @RequestParam String name,
+            @RequestParam @DecimalMin("0.0") BigDecimal fromSalary,
+            @RequestParam @DecimalMin("0.0") BigDecimal toSalary,
+            @RequestParam(required = false) Department department,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Min(1) @Max(MAX_PAGE_SIZE) Integer limit,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch
+    ) {
+        validateSalaryRange(fromSalary, toSalary);
+
+        DataVersion current = employeeService.getDataVersion();
+        if (matchesAny(ifNoneMatch, entityTag(current.version()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entityTag(current.version()))
+                    .lastModified(current.modifiedAt())
+                    .build();
+        }
+
+        EmployeePageDto page = employeeService.searchEmployees(
+                new EmployeeSearchQuery(new EmployeeSearchCriteria(name, fromSalary, toSalary, department), cursor, limit));
+        // A cached page keeps the version it was computed at, so a page cached just before a create is never
+        // tagged with the version of that create
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(entityTag(page.dataVersion().version()))
+                .lastModified(page.dataVersion().modifiedAt());
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.employees());
+    }
+
+    /**
+     * Searches for employees and streams the matches as newline-delimited JSON while they are found.
+     * Selected with {@code Accept: application/x-ndjson}; the result set is never held in memory as a whole.
      *
      * @param name       the name or surname of the employee to search for
      * @param fromSalary the minimum salary for filtering
      * @param toSalary   the maximum salary for filtering
-     * @return a list of employees that match the search criteria with status 200 OK
+     * @param department the department to search in, or null for every department
+     * @return a response entity streaming one employee per line with status 200 OK
      * @throws IllegalArgumentException if fromSalary is greater than toSalary
      */
-    @GetMapping
-    public ResponseEntity<List<EmployeeResponseDto>> searchEmployees(
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees(
             @RequestParam String name,
             @RequestParam @DecimalMin("0.0") BigDecimal fromSalary,
-            @RequestParam @DecimalMin("0.0") BigDecimal toSalary
+            @RequestParam @DecimalMin("0.0") BigDecimal toSalary,
+            @RequestParam(required = false) Department department
     ) {
+        validateSalaryRange(fromSalary, toSalary);
+
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(name, fromSalary, toSalary, department);
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                employeeService.streamEmployees(criteria, employee -> {
+                    try {
+                        writer.write(employee);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static String entityTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static boolean matchesAny(List<String> ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // GET requests compare entity tags weakly, so a weak tag of the same version also matches
+        for (String tag : ifNoneMatch) {
+            if (tag.equals("*") || tag.equals(entityTag) || tag.equals("W/" + entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void validateSalaryRange(BigDecimal fromSalary, BigDecimal toSalary) {
         if (fromSalary.compareTo(toSalary) > 0) {
             throw new IllegalArgumentException("From salary cannot be greater than to salary");
         }
-
-        return ResponseEntity.ok(employeeService.searchEmployees(name, fromSalary, toSalary));
     }
 }
@@ -0,0 +1,30 @@
+package com.adamonis.employeeservice.controller;
+
+import com.adamonis.employeeservice.dto.EmployeeStatisticsReportDto;
+import com.adamonis.employeeservice.service.EmployeeStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing aggregated statistics of the employees.
+ */
+@RestController
+@RequestMapping("/employees/statistics")
+@RequiredArgsConstructor
+public class EmployeeStatisticsController {
+
+    private final EmployeeStatisticsService employeeStatisticsService;
+
+    /**
+     * Retrieves headcount, salary and tenure statistics of all employees and of every department.
+     *
+     * @return a response entity containing the statistics with status 200 OK
+     */
+    @GetMapping
+    public ResponseEntity<EmployeeStatisticsReportDto> getStatistics() {
+        return ResponseEntity.ok(employeeStatisticsService.getStatistics());
+    }
+}
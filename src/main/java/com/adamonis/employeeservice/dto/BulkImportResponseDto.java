@@ -0,0 +1,17 @@
+package com.adamonis.employeeservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the response after a bulk import.
+ * Contains the number of created and rejected employees and the outcome of every row in input order.
+ */
+@Builder
+public record BulkImportResponseDto(
+        int created,
+        int failed,
+        List<BulkImportRowResultDto> rows
+) {
+}
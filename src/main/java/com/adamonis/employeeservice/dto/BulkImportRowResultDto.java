@@ -0,0 +1,19 @@
+package com.adamonis.employeeservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the outcome of one row of a bulk import.
+ * Contains either the ID of the created employee or the errors that rejected the row.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkImportRowResultDto(
+        int index,
+        Long id,
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,24 @@
+package com.adamonis.employeeservice.dto;
+
+import lombok.Builder;
+
+/**
+ * Data Transfer Object for the statistics of a cache since startup.
+ * Weights are counted in the units of the cache's weigher; for the search cache, in cached employees.
+ */
+@Builder
+public record CacheStatsDto(
+        long requestCount,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long evictionWeight,
+        long loadCount,
+        long totalLoadTimeNanos,
+        double averageLoadTimeNanos,
+        long estimatedSize,
+        long weightedSize,
+        long maximumWeight
+) {
+}
@@ -0,0 +1,16 @@
+package com.adamonis.employeeservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the response of a batch lookup.
+ * Contains the employees found and the requested IDs that do not exist, both in request order.
+ */
+@Builder
+public record EmployeeBatchResponseDto(
+        List<EmployeeResponseDto> employees,
+        List<Long> missingIds
+) {
+}
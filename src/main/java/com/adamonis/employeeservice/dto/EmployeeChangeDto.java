@@ -0,0 +1,15 @@
+package com.adamonis.employeeservice.dto;
+
+import lombok.Builder;
+
+/**
+ * Data Transfer Object for one change of the employee data.
+ * Changes are numbered from 1 in commit order; the sequence number is the offset to resume from.
+ */
+@Builder
+public record EmployeeChangeDto(
+        long sequence,
+        String type,
+        EmployeeResponseDto employee
+) {
+}
@@ -0,0 +1,17 @@
+package com.adamonis.employeeservice.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a batch of changes read from the change stream.
+ * Contains the changes in commit order and the sequence number to pass as the offset of the next request,
+ * which equals the requested offset when no change was found.
+ */
+@Builder
+public record EmployeeChangePageDto(
+        List<EmployeeChangeDto> changes,
+        long lastSequence
+) {
+}
@@ -0,0 +1,23 @@
+package com.adamonis.employeeservice.dto;
+
+import com.adamonis.employeeservice.repository.DataVersion;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of search results.
+ * Contains the employees of the page, the cursor of the next page, which is null on the last page, and the data
+ * version the page was computed at, which stays with the page while it is cached.
+ */
+@Builder
+public record EmployeePageDto(
+        List<EmployeeResponseDto> employees,
+        String nextCursor,
+        DataVersion dataVersion
+) {
+
+    public EmployeePageDto(List<EmployeeResponseDto> employees, String nextCursor) {
+        this(employees, nextCursor, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.adamonis.employeeservice.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for the aggregated figures of a group of employees.
+ * Salary percentiles are estimated within 1% of an actual salary; every other figure is exact.
+ * Figures other than the headcount and the salary sum are null when the group is empty.
+ */
+@Builder
+public record EmployeeStatisticsDto(
+        long headcount,
+        BigDecimal salarySum,
+        BigDecimal minSalary,
+        BigDecimal maxSalary,
+        BigDecimal averageSalary,
+        BigDecimal medianSalary,
+        BigDecimal salaryP90,
+        BigDecimal salaryP99,
+        BigDecimal averageTenureYears,
+        LocalDate earliestJoinDate,
+        LocalDate latestJoinDate
+) {
+}
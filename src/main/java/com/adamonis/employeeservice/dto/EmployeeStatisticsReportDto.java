@@ -0,0 +1,16 @@
+package com.adamonis.employeeservice.dto;
+
+import com.adamonis.employeeservice.model.enums.Department;
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the statistics of all employees and of every department.
+ */
+@Builder
+public record EmployeeStatisticsReportDto(
+        EmployeeStatisticsDto total,
+        Map<Department, EmployeeStatisticsDto> departments
+) {
+}
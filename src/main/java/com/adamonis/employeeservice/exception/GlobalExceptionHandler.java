@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +43,7 @@ public class GlobalExceptionHandler {
 
     /**
      * Handles constraint violation exceptions for validation errors.
+     * The content type is set explicitly, so the error is also written to requests accepting only event streams.
      *
      * @param ex the {@link ConstraintViolationException} that was thrown
      * @return a {@link ResponseEntity} containing details of the constraint violations with status 400 Bad Request
@@ -53,7 +56,9 @@ public class GlobalExceptionHandler {
                         violation -> violation.getPropertyPath().toString(),
                         ConstraintViolation::getMessage
                 ));
-        return new ResponseEntity<>(new ErrorResponseDto(errors), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDto(errors));
     }
 
     /**
@@ -98,8 +103,43 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ErrorResponseDto(error), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Handles requests rejected because the threads serving them are all busy.
+     * The content type is set explicitly, so the error is also written to requests accepting only event streams.
+     *
+     * @param ex the {@link RejectedExecutionException} that was thrown
+     * @return a {@link ResponseEntity} containing the error message with status 503 Service Unavailable
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponseDto> handleRejectedExecutionException(RejectedExecutionException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Too many concurrent requests, try again later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDto(error));
+    }
+
+    /**
+     * Handles change stream requests refused because the maximum number of streams is open.
+     * The content type is set explicitly, since these requests accept only event streams.
+     *
+     * @param ex the {@link TooManySubscribersException} that was thrown
+     * @return a {@link ResponseEntity} containing the error message with status 503 Service Unavailable
+     */
+    @ExceptionHandler(TooManySubscribersException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponseDto> handleTooManySubscribersException(TooManySubscribersException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponseDto(error));
+    }
+
     /**
      * Handles {@link IllegalArgumentException} thrown by controllers.
+     * The content type is set explicitly, so the error is also written to requests accepting only event streams.
      *
      * @param ex the {@link IllegalArgumentException} that was thrown
      * @return a {@link ResponseEntity} containing the error details with status 400 Bad Request
@@ -109,6 +149,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, String> error = new HashMap<>();
         error.put("error", ex.getMessage());
-        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error);
     }
 }
@@ -0,0 +1,10 @@
+package com.adamonis.employeeservice.exception;
+
+/**
+ * Exception thrown when a change stream is requested while the maximum number of streams is open.
+ */
+public class TooManySubscribersException extends RuntimeException {
+    public TooManySubscribersException(String message) {
+        super(message);
+    }
+}
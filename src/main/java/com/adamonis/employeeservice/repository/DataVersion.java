@@ -0,0 +1,17 @@
+package com.adamonis.employeeservice.repository;
+
+import java.time.Instant;
+
+/**
+ * Version of the employee data, which grows by one with every created employee.
+ * It equals the sequence number of the latest create, so the version of a single employee is the sequence number
+ * of its own create; employees never change once created.
+ *
+ * @param version    the number of employees created so far
+ * @param modifiedAt when the data last changed, or when it was loaded if it did not change since
+ */
+public record DataVersion(
+        long version,
+        Instant modifiedAt
+) {
+}
@@ -1,65 +1,639 @@
 package com.adamonis.employeeservice.repository;
 
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
 import com.adamonis.employeeservice.exception.FileAccessException;
 import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.index.DepartmentIndex;
+import com.adamonis.employeeservice.repository.index.EmployeeStatistics;
+import com.adamonis.employeeservice.repository.index.IdIndex;
+import com.adamonis.employeeservice.repository.index.NameIndex;
+import com.adamonis.employeeservice.repository.storage.ColumnarEmployeeTable;
+import com.adamonis.employeeservice.repository.storage.EmployeeTable;
+import com.adamonis.employeeservice.repository.storage.HeapEmployeeTable;
+import com.adamonis.employeeservice.repository.storage.MappedEmployeeTable;
+import com.adamonis.employeeservice.repository.storage.ParallelTableScanner;
+import com.adamonis.employeeservice.repository.storage.SalaryRange;
+import com.adamonis.employeeservice.repository.storage.SnapshotFile;
+import com.adamonis.employeeservice.repository.storage.StorageMetrics;
+import com.adamonis.employeeservice.repository.storage.WriteAheadLog;
 import com.adamonis.employeeservice.service.IdGenerator;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+/**
+ * Repository keeping all employees resident in memory.
+ * Every create is persisted as one record appended to a write-ahead log. On startup the last snapshot
+ * is loaded and the log replayed on top of it; the log is periodically folded into a new snapshot.
+ * <p>
+ * Creates are queued to a single writer thread, which takes every create waiting in the queue and commits them
+ * together: one block of ids, one write to the log and, depending on the fsync policy, one fsync for the whole
+ * group. Callers wait until their group is committed. Readers never lock; they see a create once its rows
+ * are published in the table.
+ */
+@Slf4j
 @Repository
-@RequiredArgsConstructor
 public class EmployeeRepository {
 
+    private static final String SNAPSHOT_FILE_NAME = "employees.json";
+    private static final String BINARY_SNAPSHOT_FILE_NAME = "employees.snapshot";
+    private static final String LOG_FILE_NAME = "employees.wal";
+    private static final String COMPACTING_LOG_FILE_NAME = "employees.wal.compacting";
+    private static final String ID_SEQUENCE_FILE_NAME = "employee-id-sequence.txt";
+    private static final String MAPPED_TABLE_FILE_NAME = "employees.rows";
+    private static final int MAX_GROUP_SIZE = 1024;
+    private static final PendingWrite SHUTDOWN = new PendingWrite(List.of(), new CompletableFuture<>());
+
     private final ObjectMapper objectMapper;
-    private final File databaseFile = new File("employees.json");
-    private final IdGenerator idGenerator = new IdGenerator("employee-id-sequence.txt");
+    private final StorageProperties storageProperties;
+    private final IdGenerator idGenerator;
+    private final SnapshotFile snapshotFile;
+    private final Path logPath;
+    private final Path compactingLogPath;
+    private final EmployeeTable table;
+    private final IdIndex idIndex = new IdIndex();
+    private final DepartmentIndex departmentIndex = new DepartmentIndex();
+    private final NameIndex nameIndex;
+    private final ParallelTableScanner tableScanner;
+    private final RepositoryMetrics metrics;
+    private final StorageMetrics storageMetrics;
+    // Held by the writer thread while it commits a group and by compaction while it rotates the log
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final BlockingQueue<PendingWrite> writeQueue = new LinkedBlockingQueue<>();
+    // A lock rather than a monitor, so callers on virtual threads never pin their carrier while they enqueue
+    private final ReentrantLock queueLock = new ReentrantLock();
+    // Signalled after every commit, to wake up readers waiting for employees created after a sequence number
+    private final ReentrantLock changeLock = new ReentrantLock();
+    private final Condition changed = changeLock.newCondition();
+    private final List<Runnable> createListeners = new CopyOnWriteArrayList<>();
+    private final Thread writerThread;
+    private boolean closed;
+    private volatile WriteAheadLog writeAheadLog;
+    private volatile DataVersion dataVersion;
+    private long lastLoadedId;
+
+    public EmployeeRepository(ObjectMapper objectMapper, StorageProperties storageProperties,
+                              SearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.storageProperties = storageProperties;
+        this.metrics = new RepositoryMetrics(meterRegistry);
+        this.storageMetrics = new StorageMetrics(meterRegistry);
+        this.nameIndex = new NameIndex(searchProperties.isCaseInsensitive());
+        this.tableScanner = new ParallelTableScanner(searchProperties.getParallelScanPoolSize(),
+                searchProperties.getParallelScanThreshold(), searchProperties.getParallelScanSegmentSize(),
+                searchProperties.getParallelScanMaxTasks());
+        Path dataDirectory = storageProperties.getDataDirectory();
+        this.snapshotFile = new SnapshotFile(dataDirectory.resolve(SNAPSHOT_FILE_NAME),
+                dataDirectory.resolve(BINARY_SNAPSHOT_FILE_NAME), objectMapper, storageProperties.getFormat(),
+                storageMetrics);
+        this.logPath = dataDirectory.resolve(LOG_FILE_NAME);
+        this.compactingLogPath = dataDirectory.resolve(COMPACTING_LOG_FILE_NAME);
+        try {
+            Files.createDirectories(dataDirectory);
+            this.table = switch (storageProperties.getTableLayout()) {
+                case HEAP -> new HeapEmployeeTable();
+                case MAPPED -> new MappedEmployeeTable(dataDirectory.resolve(MAPPED_TABLE_FILE_NAME));
+                case COLUMNAR -> new ColumnarEmployeeTable();
+            };
+            this.idGenerator = new IdGenerator(dataDirectory.resolve(ID_SEQUENCE_FILE_NAME).toString(),
+                    storageProperties.getIdBlockSize(), meterRegistry);
+            load();
+        } catch (IOException e) {
+            throw new FileAccessException("Error reading employee data", e);
+        }
+        Gauge.builder("employee.repository.size", table, EmployeeTable::size)
+                .description("Employees held by the repository")
+                .baseUnit("employees")
+                .register(meterRegistry);
+        Gauge.builder("employee.storage.log.records", this, repository -> repository.writeAheadLog.recordCount())
+                .description("Records in the write-ahead log since the last compaction")
+                .register(meterRegistry);
+        this.writerThread = new Thread(this::runWriter, "employee-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
 
     public long create(Employee employee) {
-        employee.setId(idGenerator.getNextId());
-        save(employee);
-        return employee.getId();
+        return createAll(List.of(employee));
+    }
+
+    /**
+     * Creates a batch of employees with one block of consecutive ids and one write to the log.
+     * The batch is committed by the writer thread, possibly together with batches of other callers,
+     * and this method returns once it is durable according to the fsync policy and visible to readers.
+     *
+     * @param employees the employees to create, at least one
+     * @return the id assigned to the first employee; the others follow it in order
+     */
+    public long createAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee must be created");
+        }
+        PendingWrite write = new PendingWrite(employees, new CompletableFuture<>());
+        // Enqueuing and closing exclude each other, so nothing is queued behind the shutdown marker
+        queueLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Employee repository is closed");
+            }
+            writeQueue.add(write);
+        } finally {
+            queueLock.unlock();
+        }
+        try {
+            return write.firstId().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     public List<Employee> findAll() {
+        return table.view(table.size());
+    }
+
+    public Optional<Employee> findById(long id) {
+        int position = idIndex.get(id);
+        return position < 0 || position >= table.size() ? Optional.empty() : Optional.of(table.get(position));
+    }
+
+    /**
+     * Returns the sequence number of the latest create.
+     * Creates are numbered from 1 in commit order, which is table order, so the employee with sequence number
+     * {@code n} is the one at position {@code n - 1}. Sequence numbers survive compactions and restarts.
+     *
+     * @return the sequence number of the latest committed create, or 0 if there is none
+     */
+    public long latestSequence() {
+        return table.size();
+    }
+
+    /**
+     * Returns the current version of the data.
+     * It is replaced after the rows of a create are published, so results computed after reading a version
+     * contain at least the employees of that version.
+     *
+     * @return the current data version
+     */
+    public DataVersion dataVersion() {
+        return dataVersion;
+    }
+
+    /**
+     * Returns the version of an employee, which is the sequence number of its create.
+     *
+     * @param id the ID of the employee
+     * @return the version of the employee, or empty if it does not exist
+     */
+    public OptionalLong findVersionById(long id) {
+        int position = idIndex.get(id);
+        return position < 0 || position >= table.size() ? OptionalLong.empty() : OptionalLong.of(position + 1L);
+    }
+
+    /**
+     * Finds the employees created after a sequence number, in commit order.
+     *
+     * @param sequence the sequence number of the last create already seen, or 0 to start from the first
+     * @param limit    the maximum number of employees to return
+     * @return the employees with sequence numbers {@code sequence + 1}, {@code sequence + 2} and so on
+     * @throws IllegalArgumentException if the sequence number is negative
+     */
+    public List<Employee> findCreatedAfter(long sequence, int limit) {
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Sequence number must not be negative: " + sequence);
+        }
+        int size = table.size();
+        if (sequence >= size) {
+            return List.of();
+        }
+        int start = (int) sequence;
+        int end = (int) Math.min(size, (long) start + limit);
+        return new ArrayList<>(table.view(end).subList(start, end));
+    }
+
+    /**
+     * Waits until an employee is created after a sequence number.
+     *
+     * @param sequence the sequence number of the last create already seen
+     * @param timeout  the maximum time to wait
+     * @return {@code true} if an employee with a greater sequence number exists, {@code false} on timeout
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean awaitCreatedAfter(long sequence, Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        changeLock.lock();
+        try {
+            while (table.size() <= sequence) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = changed.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Registers a callback run on the writer thread after every commit, once the created employees are visible.
+     * It must return quickly and must not block, since the next group is only committed after it returns.
+     *
+     * @param listener the callback to run
+     */
+    public void addCreateListener(Runnable listener) {
+        createListeners.add(listener);
+    }
+
+    /**
+     * Finds the employees with the given IDs.
+     * The table size is read once, so every ID is resolved against the same committed state even while creates
+     * are running: an employee committed during the lookup is either found for all of its IDs or for none.
+     *
+     * @param ids the IDs to look up
+     * @return the employees found, keyed by ID in the order of the first occurrence of each ID
+     */
+    public Map<Long, Employee> findAllById(Collection<Long> ids) {
+        int size = table.size();
+        Map<Long, Employee> employees = new LinkedHashMap<>();
+        for (Long id : ids) {
+            int position = idIndex.get(id);
+            if (position >= 0 && position < size) {
+                employees.putIfAbsent(id, table.get(position));
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Finds the employees matching the given criteria in id order.
+     * Candidates are taken from the name index when the name is long enough to use it, otherwise from the
+     * salary index of the department partition, or of every partition when no department is given,
+     * so only a fraction of the table is examined.
+     *
+     * @param criteria the search criteria
+     * @return the matching employees
+     */
+    public List<Employee> findByCriteria(EmployeeSearchCriteria criteria) {
+        return findByCriteria(criteria, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds one page of the employees matching the given criteria in id order.
+     * The search starts right after the given id and stops as soon as the page is full. When there are at least
+     * as many candidates as the parallel scan threshold, they are examined in segments on the scan pool, so broad
+     * searches, such as a short name over a wide salary range, do not run on one core.
+     *
+     * @param criteria the search criteria
+     * @param afterId  the id after which the page starts, or {@code 0} for the first page
+     * @param limit    the maximum number of employees to return
+     * @return the matching employees
+     */
+    public List<Employee> findByCriteria(EmployeeSearchCriteria criteria, long afterId, int limit) {
+        long startNanos = System.nanoTime();
+        SearchCandidates candidates = new SearchCandidates(criteria, afterId);
+        LongAdder examined = new LongAdder();
+        List<Employee> employees = tableScanner.filter(candidates.positions, limit, position -> {
+            examined.increment();
+            return candidates.match(position);
+        });
+        metrics.recordSearch(startNanos, examined.intValue(), employees.size());
+        return employees;
+    }
+
+    /**
+     * Passes the employees matching the given criteria to a consumer in id order, as the search finds them.
+     * The candidates are examined on the calling thread, so results are streamed without being buffered.
+     *
+     * @param criteria the search criteria
+     * @param consumer receives each matching employee
+     */
+    public void findByCriteria(EmployeeSearchCriteria criteria, Consumer<Employee> consumer) {
+        long startNanos = System.nanoTime();
+        SearchCandidates candidates = new SearchCandidates(criteria, 0);
+        int matched = 0;
+        for (int position : candidates.positions) {
+            Employee employee = candidates.match(position);
+            if (employee != null) {
+                matched++;
+                consumer.accept(employee);
+            }
+        }
+        metrics.recordSearch(startNanos, candidates.positions.length, matched);
+    }
+
+    /**
+     * Finds the employees matching a predicate by scanning the whole table.
+     * Large tables are scanned in parallel segments, so the predicate must be safe to call from several threads.
+     * It may be handed a transient view of each employee and must not keep it; see {@link EmployeeTable#filter}.
+     *
+     * @param predicate the condition to test
+     * @return the matching employees in id order
+     */
+    public List<Employee> findByPredicate(Predicate<Employee> predicate) {
+        long startNanos = System.nanoTime();
+        int size = table.size();
+        List<Employee> employees = tableScanner.filter(table, size, predicate);
+        metrics.recordScan(startNanos, size, employees.size());
+        return employees;
+    }
+
+    /**
+     * Returns the statistics of a department, or of all employees, from aggregates maintained as employees are
+     * created, without scanning the table.
+     *
+     * @param department the department, or null for all employees
+     * @return the statistics of the employees created so far
+     */
+    public EmployeeStatistics statistics(Department department) {
+        return departmentIndex.statistics(department);
+    }
+
+    /**
+     * Compacts the log once it holds more records than the configured threshold.
+     */
+    @Scheduled(fixedDelayString = "${employee-service.storage.compaction-check-interval:PT1M}")
+    public void compactIfNeeded() {
+        if (writeAheadLog.recordCount() >= storageProperties.getCompactionThreshold()) {
+            compact();
+        }
+    }
+
+    /**
+     * Folds the log into a new snapshot.
+     * The current log is rotated out under the write lock, so writers are only blocked for the rotation;
+     * the snapshot itself is written from the in-memory table while writes continue into a fresh log.
+     * A compaction that failed after rotating the log leaves the rotated log behind; the next one finishes that
+     * compaction instead of rotating again, which would overwrite the rotated records, and the current log is
+     * folded in by a later compaction.
+     */
+    public void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        long startNanos = System.nanoTime();
         try {
-            if (!databaseFile.exists()) {
-                return new ArrayList<>();
+            int snapshotSize;
+            writeLock.lock();
+            try {
+                if (Files.exists(compactingLogPath)) {
+                    // The current log holds exactly the employees created since the earlier rotation
+                    snapshotSize = Math.toIntExact(table.size() - writeAheadLog.recordCount());
+                } else {
+                    writeAheadLog.close();
+                    try {
+                        Files.move(logPath, compactingLogPath, StandardCopyOption.ATOMIC_MOVE);
+                    } finally {
+                        writeAheadLog = openLog();
+                        writeAheadLog.replay(employee -> {
+                        });
+                    }
+                    snapshotSize = table.size();
+                }
+            } finally {
+                writeLock.unlock();
             }
-            return objectMapper.readValue(databaseFile, new TypeReference<>() {
-            });
+            snapshotFile.write(table.view(snapshotSize));
+            Files.delete(compactingLogPath);
+            metrics.recordCompaction(startNanos);
+            log.info("Compacted employee log into a snapshot of {} employees", snapshotSize);
         } catch (IOException e) {
-            throw new FileAccessException("Error reading employee data", e);
+            throw new FileAccessException("Error compacting employee data", e);
+        } finally {
+            compacting.set(false);
         }
     }
 
-    public void save(Employee employee) {
+    /**
+     * Commits the creates still waiting in the queue, stops the writer thread and closes the log.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        queueLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeQueue.add(SHUTDOWN);
+        } finally {
+            queueLock.unlock();
+        }
         try {
-            List<Employee> employees = findAll();
-            employees.add(employee);
-            objectMapper.writeValue(databaseFile, employees);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        tableScanner.close();
+        writeLock.lock();
+        try {
+            writeAheadLog.close();
+            table.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        long startNanos = System.nanoTime();
+        Consumer<Employee> loader = this::appendLoaded;
+        snapshotFile.read(loader, tableScanner);
+        boolean interruptedCompaction = Files.exists(compactingLogPath);
+        if (interruptedCompaction) {
+            WriteAheadLog.replayFile(compactingLogPath, objectMapper, loader);
+        }
+        writeAheadLog = openLog();
+        long replayed = writeAheadLog.replay(loader);
+        long indexStartNanos = System.nanoTime();
+        indexLoaded();
+        long indexNanos = System.nanoTime() - indexStartNanos;
+        dataVersion = new DataVersion(table.size(), Instant.now());
+        if (interruptedCompaction) {
+            snapshotFile.write(table.view(table.size()));
+            writeAheadLog.reset();
+            Files.delete(compactingLogPath);
+        }
+        log.info("Loaded {} employees, {} of them replayed from the log, in {} ms; indexing took {} ms",
+                table.size(), replayed, (indexStartNanos - startNanos) / 1_000_000, indexNanos / 1_000_000);
+    }
+
+    private void indexLoaded() {
+        // Nothing reads the indexes before loading completes and each index, or each share of the name index,
+        // is written by a single task, so the indexes are built side by side from the table rather than one
+        // employee at a time. The name index is the slowest to build, so its trigrams are split over the pool.
+        int size = table.size();
+        int nameShares = tableScanner.parallelism();
+        List<Runnable> tasks = new ArrayList<>(nameShares + 2);
+        tasks.add(() -> table.forEach(0, size, (employee, position) -> idIndex.put(employee.getId(), position)));
+        tasks.add(() -> table.forEach(0, size, departmentIndex::add));
+        for (int share = 0; share < nameShares; share++) {
+            int nameShare = share;
+            tasks.add(() -> table.forEach(0, size,
+                    (employee, position) -> nameIndex.add(employee, position, nameShare, nameShares)));
+        }
+        tableScanner.runAll(tasks.toArray(Runnable[]::new));
+    }
+
+    private void runWriter() {
+        List<PendingWrite> group = new ArrayList<>();
+        while (true) {
+            try {
+                group.add(writeQueue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            writeQueue.drainTo(group, MAX_GROUP_SIZE - 1);
+            boolean shutdown = group.remove(SHUTDOWN);
+            if (!group.isEmpty()) {
+                commit(group);
+            }
+            group.clear();
+            if (shutdown) {
+                return;
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> group) {
+        List<Employee> employees = new ArrayList<>();
+        group.forEach(write -> employees.addAll(write.employees()));
+        long startNanos = System.nanoTime();
+        writeLock.lock();
+        try {
+            long nextId = idGenerator.getNextIds(employees.size());
+            for (Employee employee : employees) {
+                employee.setId(nextId++);
+            }
+            writeAheadLog.append(employees);
+            employees.forEach(this::appendRow);
+            dataVersion = new DataVersion(table.size(), Instant.now());
+            metrics.recordCommit(startNanos, employees.size());
         } catch (IOException e) {
-            throw new FileAccessException("Error saving employee data", e);
+            FileAccessException failure = new FileAccessException("Error saving employee data", e);
+            group.forEach(write -> write.firstId().completeExceptionally(failure));
+            return;
+        } catch (RuntimeException e) {
+            group.forEach(write -> write.firstId().completeExceptionally(e));
+            return;
+        } finally {
+            writeLock.unlock();
+        }
+        group.forEach(write -> write.firstId().complete(write.employees().get(0).getId()));
+        changeLock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            changeLock.unlock();
         }
+        createListeners.forEach(Runnable::run);
     }
 
-    public Optional<Employee> findFirstByPredicate(Predicate<Employee> predicate) {
-        return findAll().stream()
-                .filter(predicate)
-                .findFirst();
+    private void appendLoaded(Employee employee) {
+        // A crash during compaction can leave records in both the snapshot and a log; ids only grow, so skip repeats
+        if (employee.getId() <= lastLoadedId) {
+            return;
+        }
+        // Loaded rows are indexed once loading completes, at positions that start from 0 like the table
+        table.append(employee);
+        lastLoadedId = employee.getId();
     }
 
-    public List<Employee> findByPredicate(Predicate<Employee> predicate) {
-        return findAll().stream()
-                .filter(predicate)
-                .toList();
+    private void appendRow(Employee employee) {
+        // Publishing the row in the table is the commit point: readers bound every index lookup by the table size,
+        // so the indexes are updated first and never expose a position whose row is not visible yet
+        int position = table.size();
+        idIndex.put(employee.getId(), position);
+        departmentIndex.add(employee, position);
+        nameIndex.add(employee, position);
+        table.append(employee);
+    }
+
+    /**
+     * The candidate positions of a search, taken from the name index when the name is long enough to use it and
+     * otherwise from the salary index, and the checks that decide which of them match.
+     * Matching only reads the table and the indexes, so candidates may be examined from several threads at once.
+     */
+    private final class SearchCandidates {
+        private final int[] positions;
+        private final String name;
+        private final Department department;
+        private final boolean checkDepartment;
+        private final SalaryRange salaryRange;
+
+        private SearchCandidates(EmployeeSearchCriteria criteria, long afterId) {
+            int size = table.size();
+            int start = afterId > 0 ? table.firstPositionAfter(afterId, size) : 0;
+            this.salaryRange = new SalaryRange(criteria.fromSalary(), criteria.toSalary());
+            this.name = nameIndex.normalize(criteria.name());
+            this.department = criteria.department();
+            int[] nameCandidates = nameIndex.candidates(name, start, size);
+            this.checkDepartment = nameCandidates != null && department != null;
+            this.positions = nameCandidates != null
+                    ? nameCandidates
+                    : departmentIndex.positionsBetween(department, criteria.fromSalary(), criteria.toSalary(), start, size);
+        }
+
+        /**
+         * Returns the employee at a candidate position if it matches the search.
+         *
+         * @param position a candidate position
+         * @return the employee, or null if it does not match
+         */
+        private Employee match(int position) {
+            if (checkDepartment && !departmentIndex.contains(department, position)) {
+                return null;
+            }
+            // The salary is checked on the stored row first, so rows outside the range are never materialized
+            if (!table.salaryIn(position, salaryRange)) {
+                return null;
+            }
+            Employee employee = table.get(position);
+            return nameIndex.matches(position, employee, name) ? employee : null;
+        }
+    }
+
+    /**
+     * A batch of employees waiting for the writer thread, and the id of its first employee once committed.
+     */
+    private record PendingWrite(List<Employee> employees, CompletableFuture<Long> firstId) {
+    }
+
+    private WriteAheadLog openLog() throws IOException {
+        return new WriteAheadLog(logPath, objectMapper, storageProperties.getFormat(),
+                storageProperties.getFsyncPolicy(), storageProperties.getFsyncInterval(), storageMetrics);
     }
 }
@@ -0,0 +1,70 @@
+package com.adamonis.employeeservice.repository;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Criteria of an employee search.
+ * Salaries are kept without trailing zeros, so criteria that differ only in the scale of a salary are equal.
+ *
+ * @param name       text that the first name or last name of a matching employee contains
+ * @param fromSalary the minimum salary, inclusive
+ * @param toSalary   the maximum salary, inclusive
+ * @param department the department of a matching employee, or null for every department
+ */
+public record EmployeeSearchCriteria(
+        String name,
+        BigDecimal fromSalary,
+        BigDecimal toSalary,
+        Department department
+) {
+
+    public EmployeeSearchCriteria {
+        fromSalary = fromSalary == null ? null : fromSalary.stripTrailingZeros();
+        toSalary = toSalary == null ? null : toSalary.stripTrailingZeros();
+    }
+
+    public EmployeeSearchCriteria(String name, BigDecimal fromSalary, BigDecimal toSalary) {
+        this(name, fromSalary, toSalary, null);
+    }
+
+    /**
+     * Checks whether the salary of an employee lies within the salary range.
+     *
+     * @param employee the employee to check
+     * @return {@code true} if the salary matches
+     */
+    public boolean matchesSalary(Employee employee) {
+        return employee.getSalary().compareTo(fromSalary) >= 0 && employee.getSalary().compareTo(toSalary) <= 0;
+    }
+
+    /**
+     * Returns a check of whether employees may match the criteria under either case sensitivity of name search.
+     * The name is lower-cased once, when the check is created, so the check can be applied to many employees
+     * without allocating. The department and salary are checked before the name, which is compared ignoring case,
+     * so every employee a search would return is accepted.
+     *
+     * @return a check that is {@code true} for an employee whose department and salary match and either of whose
+     * names contains the name ignoring case
+     */
+    public Predicate<Employee> mayMatch() {
+        String query = name.toLowerCase(Locale.ROOT);
+        return employee -> (department == null || department == employee.getDepartment())
+                && matchesSalary(employee)
+                && (containsIgnoreCase(employee.getFirstName(), query)
+                || containsIgnoreCase(employee.getLastName(), query));
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowerCaseQuery) {
+        for (int start = 0; start <= text.length() - lowerCaseQuery.length(); start++) {
+            if (text.regionMatches(true, start, lowerCaseQuery, 0, lowerCaseQuery.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
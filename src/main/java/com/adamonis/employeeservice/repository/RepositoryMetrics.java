@@ -0,0 +1,81 @@
+package com.adamonis.employeeservice.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the employee repository: group commits, indexed searches, full-table scans and compactions.
+ */
+class RepositoryMetrics {
+
+    private static final String EMPLOYEES = "employees";
+
+    private final Timer commitTimer;
+    private final DistributionSummary commitSize;
+    private final Timer searchTimer;
+    private final DistributionSummary searchCandidates;
+    private final DistributionSummary searchResults;
+    private final Timer scanTimer;
+    private final DistributionSummary scanRows;
+    private final DistributionSummary scanResults;
+    private final Timer compactionTimer;
+
+    RepositoryMetrics(MeterRegistry registry) {
+        this.commitTimer = Timer.builder("employee.repository.commit")
+                .description("Time to commit one group of creates: id allocation, log append and indexing")
+                .register(registry);
+        this.commitSize = DistributionSummary.builder("employee.repository.commit.size")
+                .description("Employees committed per group")
+                .baseUnit(EMPLOYEES)
+                .register(registry);
+        this.searchTimer = Timer.builder("employee.repository.search")
+                .description("Time to run an indexed search, including handing each match to its consumer")
+                .register(registry);
+        this.searchCandidates = DistributionSummary.builder("employee.repository.search.candidates")
+                .description("Index candidates examined per search")
+                .baseUnit(EMPLOYEES)
+                .register(registry);
+        this.searchResults = DistributionSummary.builder("employee.repository.search.results")
+                .description("Employees returned per search")
+                .baseUnit(EMPLOYEES)
+                .register(registry);
+        this.scanTimer = Timer.builder("employee.repository.scan")
+                .description("Time to scan the whole table with a predicate")
+                .register(registry);
+        this.scanRows = DistributionSummary.builder("employee.repository.scan.rows")
+                .description("Employees examined per full-table scan")
+                .baseUnit(EMPLOYEES)
+                .register(registry);
+        this.scanResults = DistributionSummary.builder("employee.repository.scan.results")
+                .description("Employees returned per full-table scan")
+                .baseUnit(EMPLOYEES)
+                .register(registry);
+        this.compactionTimer = Timer.builder("employee.repository.compaction")
+                .description("Time to fold the write-ahead log into a new snapshot")
+                .register(registry);
+    }
+
+    void recordCommit(long startNanos, int employees) {
+        commitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        commitSize.record(employees);
+    }
+
+    void recordSearch(long startNanos, int candidates, int results) {
+        searchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        searchCandidates.record(candidates);
+        searchResults.record(results);
+    }
+
+    void recordScan(long startNanos, int rows, int results) {
+        scanTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        scanRows.record(rows);
+        scanResults.record(results);
+    }
+
+    void recordCompaction(long startNanos) {
+        compactionTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
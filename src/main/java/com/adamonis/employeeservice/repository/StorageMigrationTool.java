@@ -0,0 +1,52 @@
+package com.adamonis.employeeservice.repository;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.repository.storage.FsyncPolicy;
+import com.adamonis.employeeservice.repository.storage.StorageFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line tool converting a data directory between the JSON and binary storage formats.
+ * It loads the directory like the service does, then compacts it in the target format, which rewrites the snapshot
+ * and starts a new log. The service must not be running on the same directory.
+ * <p>
+ * Usage: {@code StorageMigrationTool <data directory> <json|binary>}
+ */
+public final class StorageMigrationTool {
+
+    private StorageMigrationTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: StorageMigrationTool <data directory> <json|binary>");
+            System.exit(1);
+        }
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setDataDirectory(Path.of(args[0]));
+        storageProperties.setFormat(StorageFormat.valueOf(args[1].toUpperCase(Locale.ROOT)));
+        storageProperties.setFsyncPolicy(FsyncPolicy.ALWAYS);
+        // Matches the mapper of the service, which writes dates as ISO strings
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        long start = System.nanoTime();
+        EmployeeRepository repository = new EmployeeRepository(objectMapper, storageProperties, new SearchProperties(),
+                new SimpleMeterRegistry());
+        try {
+            repository.compact();
+            System.out.printf("Migrated %d employees in %s to %s in %d ms%n", repository.findAll().size(),
+                    storageProperties.getDataDirectory(), storageProperties.getFormat(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            repository.close();
+        }
+    }
+}
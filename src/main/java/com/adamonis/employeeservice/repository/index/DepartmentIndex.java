@@ -0,0 +1,148 @@
+package com.adamonis.employeeservice.repository.index;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Partitions the table positions of employees by department, indexed by the department ordinal.
+ * Every partition holds the positions of its employees, a {@link SalaryIndex} over them and running aggregates
+ * of their salaries and join dates, so a query scoped to one department never reads the entries of another and
+ * statistics are answered without scanning. Employees without a department form a partition of their own,
+ * which only unscoped queries read.
+ * Writes must be serialized by the caller. Position and salary lookups never lock; statistics are read under
+ * a per-partition lock, so every figure of a partition describes the same set of employees.
+ */
+public class DepartmentIndex {
+
+    private static final Department[] DEPARTMENTS = Department.values();
+    private static final int NO_DEPARTMENT = DEPARTMENTS.length;
+
+    private final Partition[] partitions = new Partition[DEPARTMENTS.length + 1];
+
+    public DepartmentIndex() {
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition();
+        }
+    }
+
+    /**
+     * Indexes the employee at the given position in the partition of its department.
+     *
+     * @param employee the employee to index
+     * @param position the position of the employee in the table, one past the last indexed position
+     */
+    public void add(Employee employee, int position) {
+        partitions[partition(employee.getDepartment())].add(employee, position);
+    }
+
+    /**
+     * Checks whether the employee at the given position belongs to a department.
+     *
+     * @param department the department
+     * @param position   the position of the employee in the table
+     * @return {@code true} if the employee was indexed in the partition of the department
+     */
+    public boolean contains(Department department, int position) {
+        return partitions[partition(department)].positions.contains(position);
+    }
+
+    /**
+     * Finds the positions of the employees whose salary lies in the given range. Unscoped searches merge the
+     * sorted matches of every partition.
+     *
+     * @param department the department to search, or null to search every partition
+     * @param fromSalary the minimum salary, inclusive
+     * @param toSalary   the maximum salary, inclusive
+     * @param start      the inclusive lower bound of the returned positions
+     * @param limit      the exclusive upper bound of the returned positions
+     * @return the matching positions in ascending order
+     */
+    public int[] positionsBetween(Department department, BigDecimal fromSalary, BigDecimal toSalary,
+                                  int start, int limit) {
+        if (department != null) {
+            return partitions[partition(department)].salaryIndex.positionsBetween(fromSalary, toSalary, start, limit);
+        }
+        int[][] matches = new int[partitions.length][];
+        for (int i = 0; i < partitions.length; i++) {
+            matches[i] = partitions[i].salaryIndex.positionsBetween(fromSalary, toSalary, start, limit);
+        }
+        return PositionList.merge(matches);
+    }
+
+    /**
+     * Returns the statistics of a department, or of all employees, in time proportional to the number of
+     * departments rather than employees.
+     *
+     * @param department the department, or null for all employees
+     * @return the statistics of the employees indexed so far
+     */
+    public EmployeeStatistics statistics(Department department) {
+        if (department != null) {
+            return partitions[partition(department)].statistics();
+        }
+        EmployeeStatistics statistics = EmployeeStatistics.empty();
+        for (Partition partition : partitions) {
+            statistics = statistics.merge(partition.statistics());
+        }
+        return statistics;
+    }
+
+    private static int partition(Department department) {
+        return department == null ? NO_DEPARTMENT : department.ordinal();
+    }
+
+    /**
+     * The index entries and running aggregates of one department.
+     */
+    private static final class Partition {
+        private final PositionList positions = new PositionList();
+        private final SalaryIndex salaryIndex = new SalaryIndex();
+        private final ReentrantLock statisticsLock = new ReentrantLock();
+        private final SalarySketch salaries = new SalarySketch();
+        private long headcount;
+        private BigDecimal salarySum = BigDecimal.ZERO;
+        private long joinDateCount;
+        private long joinEpochDaySum;
+        private LocalDate earliestJoinDate;
+        private LocalDate latestJoinDate;
+
+        private void add(Employee employee, int position) {
+            BigDecimal salary = employee.getSalary();
+            LocalDate joinDate = employee.getJoinDate();
+            statisticsLock.lock();
+            try {
+                salaryIndex.add(salary, position);
+                positions.add(position);
+                headcount++;
+                salarySum = salarySum.add(salary);
+                salaries.add(salary.doubleValue());
+                if (joinDate != null) {
+                    joinDateCount++;
+                    joinEpochDaySum += joinDate.toEpochDay();
+                    if (earliestJoinDate == null || joinDate.isBefore(earliestJoinDate)) {
+                        earliestJoinDate = joinDate;
+                    }
+                    if (latestJoinDate == null || joinDate.isAfter(latestJoinDate)) {
+                        latestJoinDate = joinDate;
+                    }
+                }
+            } finally {
+                statisticsLock.unlock();
+            }
+        }
+
+        private EmployeeStatistics statistics() {
+            statisticsLock.lock();
+            try {
+                return new EmployeeStatistics(headcount, salarySum, salaryIndex.lowest(), salaryIndex.highest(),
+                        salaries.copy(), joinDateCount, joinEpochDaySum, earliestJoinDate, latestJoinDate);
+            } finally {
+                statisticsLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.adamonis.employeeservice.repository.index;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Aggregates over the employees of one or more departments at one point in time.
+ *
+ * @param headcount        the number of employees
+ * @param salarySum        the sum of their salaries
+ * @param minSalary        the lowest salary, or null if there are no employees
+ * @param maxSalary        the highest salary, or null if there are no employees
+ * @param salaries         a quantile sketch of their salaries, owned by this instance
+ * @param joinDateCount    the number of employees with a join date
+ * @param joinEpochDaySum  the sum of their join dates as epoch days
+ * @param earliestJoinDate the earliest join date, or null if no employee has one
+ * @param latestJoinDate   the latest join date, or null if no employee has one
+ */
+public record EmployeeStatistics(
+        long headcount,
+        BigDecimal salarySum,
+        BigDecimal minSalary,
+        BigDecimal maxSalary,
+        SalarySketch salaries,
+        long joinDateCount,
+        long joinEpochDaySum,
+        LocalDate earliestJoinDate,
+        LocalDate latestJoinDate
+) {
+
+    public static EmployeeStatistics empty() {
+        return new EmployeeStatistics(0, BigDecimal.ZERO, null, null, new SalarySketch(), 0, 0, null, null);
+    }
+
+    /**
+     * Combines these statistics with those of a disjoint set of employees.
+     *
+     * @param other the statistics to combine with
+     * @return the statistics of both sets together
+     */
+    public EmployeeStatistics merge(EmployeeStatistics other) {
+        SalarySketch mergedSalaries = salaries.copy();
+        mergedSalaries.merge(other.salaries);
+        return new EmployeeStatistics(
+                headcount + other.headcount,
+                salarySum.add(other.salarySum),
+                extreme(minSalary, other.minSalary, -1),
+                extreme(maxSalary, other.maxSalary, 1),
+                mergedSalaries,
+                joinDateCount + other.joinDateCount,
+                joinEpochDaySum + other.joinEpochDaySum,
+                extreme(earliestJoinDate, other.earliestJoinDate, -1),
+                extreme(latestJoinDate, other.latestJoinDate, 1)
+        );
+    }
+
+    // Returns the lower of two values for a negative direction and the higher one for a positive direction
+    private static <T extends Comparable<? super T>> T extreme(T first, T second, int direction) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return Integer.signum(first.compareTo(second)) == direction ? first : second;
+    }
+}
@@ -0,0 +1,114 @@
+package com.adamonis.employeeservice.repository.index;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Primary-key index mapping employee ids to their position in the employee table.
+ * Open-addressing hash table over primitive {@code long} keys, so lookups never box an id.
+ * Writes must be serialized by the caller. Readers never lock: a key is published with release
+ * semantics only after its position has been written, and a resize publishes a complete new table.
+ */
+public class IdIndex {
+
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * Maps an id to a table position.
+     *
+     * @param id       the employee id, which must be positive
+     * @param position the position of the employee in the table
+     */
+    public void put(long id, int position) {
+        if (id <= EMPTY) {
+            throw new IllegalArgumentException("Employee ID must be positive: " + id);
+        }
+        Table current = table;
+        if ((size + 1) * 4L > current.keys.length * 3L) {
+            current = current.resize();
+            table = current;
+        }
+        if (current.insert(id, position)) {
+            size++;
+        }
+    }
+
+    /**
+     * Looks up the table position of an id.
+     *
+     * @param id the employee id
+     * @return the position of the employee, or {@code -1} if the id is not indexed
+     */
+    public int get(long id) {
+        Table current = table;
+        int slot = slot(id, current.mask);
+        while (true) {
+            long key = (long) KEYS.getAcquire(current.keys, slot);
+            if (key == id) {
+                return current.positions[slot];
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & current.mask;
+        }
+    }
+
+    /**
+     * Returns the number of indexed ids.
+     *
+     * @return the index size
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int slot(long id, int mask) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final int[] positions;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.positions = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private boolean insert(long id, int position) {
+            int slot = slot(id, mask);
+            while (true) {
+                long key = keys[slot];
+                if (key == EMPTY) {
+                    positions[slot] = position;
+                    KEYS.setRelease(keys, slot, id);
+                    return true;
+                }
+                if (key == id) {
+                    positions[slot] = position;
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private Table resize() {
+            Table resized = new Table(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    resized.insert(keys[i], positions[i]);
+                }
+            }
+            return resized;
+        }
+    }
+}
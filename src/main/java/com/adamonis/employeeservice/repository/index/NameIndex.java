@@ -0,0 +1,161 @@
+package com.adamonis.employeeservice.repository.index;
+
+import com.adamonis.employeeservice.model.Employee;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram index over the first and last names of employees, used to answer substring queries.
+ * Each three-character sequence of a name maps to the positions of the employees whose names contain it;
+ * a query is resolved by intersecting the posting lists of its own trigrams and verifying the survivors.
+ * In case-insensitive mode names are normalized once when they are indexed, and the normalized copies are
+ * kept for verification, so queries never normalize stored names.
+ * Writes must be serialized by the caller, except that the shares of a bulk load may be indexed side by side;
+ * readers never lock.
+ */
+public class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final boolean caseInsensitive;
+    private final ConcurrentHashMap<Long, PositionList> positionsByTrigram = new ConcurrentHashMap<>();
+    private volatile String[] normalizedNames = new String[0];
+
+    public NameIndex(boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * Indexes the names of the employee at the given position.
+     *
+     * @param employee the employee to index
+     * @param position the position of the employee in the table, one past the last indexed position
+     */
+    public void add(Employee employee, int position) {
+        add(employee, position, 0, 1);
+    }
+
+    /**
+     * Indexes the names of the employee at the given position under one share of the trigrams, so a bulk load
+     * can index every share on its own thread. Each trigram belongs to exactly one share, so every posting list
+     * still has a single writer and receives its positions in ascending order. The first share also keeps the
+     * normalized names.
+     *
+     * @param employee the employee to index
+     * @param position the position of the employee in the table, one past the last position indexed in the share
+     * @param share    the share to index, from 0 to {@code shares - 1}
+     * @param shares   the number of shares the trigrams are split into
+     */
+    public void add(Employee employee, int position, int share, int shares) {
+        String firstName = normalize(employee.getFirstName());
+        String lastName = normalize(employee.getLastName());
+        if (caseInsensitive && share == 0) {
+            String[] names = normalizedNames;
+            if (position * 2 + 1 >= names.length) {
+                names = Arrays.copyOf(names, Math.max(1024, names.length * 2));
+            }
+            names[position * 2] = firstName;
+            names[position * 2 + 1] = lastName;
+            normalizedNames = names;
+        }
+
+        Set<Long> trigrams = new HashSet<>();
+        addTrigrams(firstName, trigrams, share, shares);
+        addTrigrams(lastName, trigrams, share, shares);
+        for (Long trigram : trigrams) {
+            positionsByTrigram.computeIfAbsent(trigram, key -> new PositionList()).add(position);
+        }
+    }
+
+    /**
+     * Normalizes a name or query the same way indexed names are normalized.
+     *
+     * @param name the text to normalize
+     * @return the text itself, or its lower-case form in case-insensitive mode
+     */
+    public String normalize(String name) {
+        return caseInsensitive ? name.toLowerCase(Locale.ROOT) : name;
+    }
+
+    /**
+     * Finds candidate positions of employees whose first or last name may contain the query.
+     * Every matching employee is among the candidates, but candidates still need {@link #matches} to confirm them.
+     *
+     * @param normalizedQuery the query, already {@link #normalize normalized}
+     * @param start           the inclusive lower bound of the returned positions
+     * @param limit           the exclusive upper bound of the returned positions
+     * @return the candidate positions in ascending order, or {@code null} if the query is too short to use the index
+     */
+    public int[] candidates(String normalizedQuery, int start, int limit) {
+        if (normalizedQuery.length() < GRAM_LENGTH) {
+            return null;
+        }
+        Set<Long> trigrams = new HashSet<>();
+        addTrigrams(normalizedQuery, trigrams, 0, 1);
+
+        PositionList[] postings = new PositionList[trigrams.size()];
+        int i = 0;
+        for (Long trigram : trigrams) {
+            PositionList positions = positionsByTrigram.get(trigram);
+            if (positions == null) {
+                return new int[0];
+            }
+            postings[i++] = positions;
+        }
+        Arrays.sort(postings, (a, b) -> Integer.compare(a.size(), b.size()));
+
+        int[] result = postings[0].toArray(start, limit);
+        for (int j = 1; j < postings.length && result.length > 0; j++) {
+            result = intersect(result, postings[j].toArray(start, limit));
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the first or last name of an employee contains the query.
+     *
+     * @param position        the position of the employee in the table
+     * @param employee        the employee at that position
+     * @param normalizedQuery the query, already {@link #normalize normalized}
+     * @return {@code true} if either name contains the query
+     */
+    public boolean matches(int position, Employee employee, String normalizedQuery) {
+        if (!caseInsensitive) {
+            return employee.getFirstName().contains(normalizedQuery) || employee.getLastName().contains(normalizedQuery);
+        }
+        String[] names = normalizedNames;
+        return names[position * 2].contains(normalizedQuery) || names[position * 2 + 1].contains(normalizedQuery);
+    }
+
+    private static void addTrigrams(String text, Set<Long> trigrams, int share, int shares) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            long trigram = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            if (shares == 1 || Math.floorMod(Long.hashCode(trigram), shares) == share) {
+                trigrams.add(trigram);
+            }
+        }
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,134 @@
+package com.adamonis.employeeservice.repository.index;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of table positions used as an index posting list.
+ * Positions are appended in ascending order, so the list is always sorted.
+ * Writes must be serialized by the caller; readers never lock and see a fully written prefix.
+ */
+public class PositionList {
+
+    private volatile int[] positions = new int[4];
+    private volatile int size;
+
+    /**
+     * Appends a position, which must be greater than every position already in the list.
+     *
+     * @param position the table position to append
+     */
+    public void add(int position) {
+        int[] current = positions;
+        int count = size;
+        if (count == current.length) {
+            current = Arrays.copyOf(current, count * 2);
+            positions = current;
+        }
+        current[count] = position;
+        size = count + 1;
+    }
+
+    /**
+     * Returns the number of positions visible to readers.
+     *
+     * @return the published size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a position is in the list.
+     *
+     * @param position the table position to look up
+     * @return {@code true} if the position was added
+     */
+    public boolean contains(int position) {
+        int count = size;
+        return Arrays.binarySearch(positions, 0, count, position) >= 0;
+    }
+
+    /**
+     * Copies the positions within the given bounds.
+     *
+     * @param start the inclusive lower bound of the returned positions
+     * @param limit the exclusive upper bound of the returned positions
+     * @return the matching positions in ascending order
+     */
+    public int[] toArray(int start, int limit) {
+        int count = size;
+        int[] current = positions;
+        int from = insertionPoint(current, count, start);
+        int to = insertionPoint(current, count, limit);
+        return Arrays.copyOfRange(current, from, Math.max(from, to));
+    }
+
+    /**
+     * Merges sorted, disjoint arrays of positions into one sorted array with a k-way merge, so merging
+     * k positions from m arrays costs O(k log m) instead of the O(k log k) of concatenating and sorting.
+     *
+     * @param sortedPositions arrays of positions, each in ascending order, no position appearing twice
+     * @return all positions in ascending order
+     */
+    public static int[] merge(int[][] sortedPositions) {
+        if (sortedPositions.length == 1) {
+            return sortedPositions[0];
+        }
+        int count = 0;
+        int[] heap = new int[sortedPositions.length];
+        int heapSize = 0;
+        for (int i = 0; i < sortedPositions.length; i++) {
+            count += sortedPositions[i].length;
+            if (sortedPositions[i].length > 0) {
+                heap[heapSize++] = i;
+            }
+        }
+        // A binary min-heap of array indexes, ordered by the next unmerged position of each array
+        int[] next = new int[sortedPositions.length];
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, sortedPositions, next);
+        }
+        int[] result = new int[count];
+        for (int offset = 0; offset < count; offset++) {
+            int array = heap[0];
+            result[offset] = sortedPositions[array][next[array]++];
+            if (next[array] == sortedPositions[array].length) {
+                heap[0] = heap[--heapSize];
+            }
+            if (heapSize > 0) {
+                siftDown(heap, heapSize, 0, sortedPositions, next);
+            }
+        }
+        return result;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int index, int[][] sortedPositions, int[] next) {
+        int array = heap[index];
+        int head = sortedPositions[array][next[array]];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            int childHead = sortedPositions[heap[child]][next[heap[child]]];
+            if (child + 1 < heapSize) {
+                int rightHead = sortedPositions[heap[child + 1]][next[heap[child + 1]]];
+                if (rightHead < childHead) {
+                    child++;
+                    childHead = rightHead;
+                }
+            }
+            if (head <= childHead) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = array;
+    }
+
+    private static int insertionPoint(int[] positions, int count, int position) {
+        int index = Arrays.binarySearch(positions, 0, count, position);
+        return index < 0 ? -index - 1 : index;
+    }
+}
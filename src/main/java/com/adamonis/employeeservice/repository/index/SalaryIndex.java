@@ -0,0 +1,65 @@
+package com.adamonis.employeeservice.repository.index;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted secondary index from salary to the table positions of the employees earning it.
+ * Salaries are compared numerically, so {@code 1000} and {@code 1000.00} share an entry.
+ * Writes must be serialized by the caller; readers never lock.
+ */
+public class SalaryIndex {
+
+    private final ConcurrentSkipListMap<BigDecimal, PositionList> positionsBySalary = new ConcurrentSkipListMap<>();
+
+    /**
+     * Indexes the salary of the employee at the given position.
+     *
+     * @param salary   the salary of the employee
+     * @param position the position of the employee in the table
+     */
+    public void add(BigDecimal salary, int position) {
+        positionsBySalary.computeIfAbsent(salary, key -> new PositionList()).add(position);
+    }
+
+    /**
+     * Returns the lowest indexed salary, read from the head of the sorted index.
+     *
+     * @return the lowest salary, or null if the index is empty
+     */
+    public BigDecimal lowest() {
+        Map.Entry<BigDecimal, PositionList> entry = positionsBySalary.firstEntry();
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * Returns the highest indexed salary, read from the tail of the sorted index.
+     *
+     * @return the highest salary, or null if the index is empty
+     */
+    public BigDecimal highest() {
+        Map.Entry<BigDecimal, PositionList> entry = positionsBySalary.lastEntry();
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * Finds the positions of all employees whose salary lies in the given range.
+     * The posting lists of the salaries in range are already sorted, so they are merged rather than sorted:
+     * the search costs O(log N + k log m) for k positions spread over m distinct salaries.
+     *
+     * @param fromSalary the minimum salary, inclusive
+     * @param toSalary   the maximum salary, inclusive
+     * @param start      the inclusive lower bound of the returned positions
+     * @param limit      the exclusive upper bound of the returned positions
+     * @return the matching positions in ascending order, none if the minimum exceeds the maximum
+     */
+    public int[] positionsBetween(BigDecimal fromSalary, BigDecimal toSalary, int start, int limit) {
+        if (fromSalary.compareTo(toSalary) > 0) {
+            return new int[0];
+        }
+        return PositionList.merge(positionsBySalary.subMap(fromSalary, true, toSalary, true).values().stream()
+                .map(positions -> positions.toArray(start, limit))
+                .toArray(int[][]::new));
+    }
+}
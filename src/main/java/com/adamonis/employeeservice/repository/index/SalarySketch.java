@@ -0,0 +1,119 @@
+package com.adamonis.employeeservice.repository.index;
+
+/**
+ * Mergeable quantile sketch over salaries with a bounded relative error.
+ * Positive values fall into logarithmic buckets whose bounds grow by a factor of {@code (1 + a) / (1 - a)},
+ * where {@code a} is the relative accuracy, so any quantile is estimated within {@code a} of a stored value
+ * while the number of buckets only grows with the logarithm of the salary range. Values of zero or less share
+ * one bucket. Two sketches are merged by adding their bucket counts.
+ * Not thread-safe.
+ */
+public final class SalarySketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long[] counts = new long[0];
+    // The bucket index of counts[0]
+    private int offset;
+    private long zeroCount;
+    private long count;
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value to add
+     */
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+            ensureCapacity(index, index);
+            counts[index - offset]++;
+        }
+        count++;
+    }
+
+    /**
+     * Adds the values of another sketch to this one.
+     *
+     * @param other the sketch to merge
+     */
+    public void merge(SalarySketch other) {
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Returns an independent copy of the sketch.
+     *
+     * @return the copy
+     */
+    public SalarySketch copy() {
+        SalarySketch copy = new SalarySketch();
+        copy.counts = counts.clone();
+        copy.offset = offset;
+        copy.zeroCount = zeroCount;
+        copy.count = count;
+        return copy;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Estimates a quantile of the added values by nearest rank: the q-quantile of n values is the
+     * {@code ceil(q * n)}-th smallest of them, or the smallest for q = 0. The 0.99-quantile of three values is
+     * therefore the largest one.
+     *
+     * @param quantile the quantile, from 0 to 1
+     * @return the estimated value, or {@code NaN} if the sketch is empty
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        // The tolerance keeps products such as 0.07 * 100 = 7.000000000000001 from rounding up to the next rank
+        long rank = Math.max(1, (long) Math.ceil(quantile * count - 1e-9));
+        long seen = zeroCount;
+        if (seen >= rank) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+            }
+        }
+        throw new IllegalStateException("Sketch counts do not add up to " + count);
+    }
+
+    private void ensureCapacity(int lowest, int highest) {
+        if (counts.length == 0) {
+            counts = new long[highest - lowest + 1];
+            offset = lowest;
+            return;
+        }
+        int newOffset = Math.min(offset, lowest);
+        int newEnd = Math.max(offset + counts.length - 1, highest);
+        if (newOffset == offset && newEnd == offset + counts.length - 1) {
+            return;
+        }
+        long[] grown = new long[newEnd - newOffset + 1];
+        System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+        counts = grown;
+        offset = newOffset;
+    }
+}
@@ -0,0 +1,174 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Codec storing each employee as a compact binary row.
+ * A row starts with one byte flagging the fields that are present, followed by those fields in declaration order:
+ * the id as a long, names as length-prefixed UTF-8, dates as epoch days in an int, the salary as its unscaled value
+ * in a long followed by its scale, and the department as its ordinal in one byte. Lengths and scales are varints.
+ * Salaries whose unscaled value does not fit a long are stored as length-prefixed two's-complement bytes instead.
+ * <p>
+ * Departments are stored by ordinal, so new departments must be added at the end of {@link Department}.
+ */
+public class BinaryEmployeeCodec implements EmployeeCodec {
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_FIRST_NAME = 1 << 1;
+    private static final int HAS_LAST_NAME = 1 << 2;
+    private static final int HAS_DATE_OF_BIRTH = 1 << 3;
+    private static final int HAS_SALARY = 1 << 4;
+    private static final int HAS_JOIN_DATE = 1 << 5;
+    private static final int HAS_DEPARTMENT = 1 << 6;
+    private static final int LARGE_SALARY = 1 << 7;
+    private static final Department[] DEPARTMENTS = Department.values();
+
+    @Override
+    public byte[] encode(Employee employee) throws IOException {
+        BigDecimal salary = employee.getSalary();
+        boolean largeSalary = salary != null && salary.unscaledValue().bitLength() >= Long.SIZE;
+        int flags = flag(employee.getId() != null, HAS_ID)
+                | flag(employee.getFirstName() != null, HAS_FIRST_NAME)
+                | flag(employee.getLastName() != null, HAS_LAST_NAME)
+                | flag(employee.getDateOfBirth() != null, HAS_DATE_OF_BIRTH)
+                | flag(salary != null, HAS_SALARY)
+                | flag(employee.getJoinDate() != null, HAS_JOIN_DATE)
+                | flag(employee.getDepartment() != null, HAS_DEPARTMENT)
+                | flag(largeSalary, LARGE_SALARY);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(flags);
+        if ((flags & HAS_ID) != 0) {
+            out.writeLong(employee.getId());
+        }
+        if ((flags & HAS_FIRST_NAME) != 0) {
+            writeString(out, employee.getFirstName());
+        }
+        if ((flags & HAS_LAST_NAME) != 0) {
+            writeString(out, employee.getLastName());
+        }
+        if ((flags & HAS_DATE_OF_BIRTH) != 0) {
+            out.writeInt(Math.toIntExact(employee.getDateOfBirth().toEpochDay()));
+        }
+        if ((flags & HAS_SALARY) != 0) {
+            if (largeSalary) {
+                byte[] unscaled = salary.unscaledValue().toByteArray();
+                writeVarInt(out, unscaled.length);
+                out.write(unscaled);
+            } else {
+                out.writeLong(salary.unscaledValue().longValue());
+            }
+            writeVarInt(out, (salary.scale() << 1) ^ (salary.scale() >> 31));
+        }
+        if ((flags & HAS_JOIN_DATE) != 0) {
+            out.writeInt(Math.toIntExact(employee.getJoinDate().toEpochDay()));
+        }
+        if ((flags & HAS_DEPARTMENT) != 0) {
+            out.writeByte(employee.getDepartment().ordinal());
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Employee decode(byte[] payload) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        try {
+            int flags = in.get() & 0xFF;
+            Employee employee = new Employee();
+            if ((flags & HAS_ID) != 0) {
+                employee.setId(in.getLong());
+            }
+            if ((flags & HAS_FIRST_NAME) != 0) {
+                employee.setFirstName(readString(in));
+            }
+            if ((flags & HAS_LAST_NAME) != 0) {
+                employee.setLastName(readString(in));
+            }
+            if ((flags & HAS_DATE_OF_BIRTH) != 0) {
+                employee.setDateOfBirth(LocalDate.ofEpochDay(in.getInt()));
+            }
+            if ((flags & HAS_SALARY) != 0) {
+                BigInteger unscaled;
+                if ((flags & LARGE_SALARY) != 0) {
+                    byte[] bytes = new byte[readLength(in)];
+                    in.get(bytes);
+                    unscaled = new BigInteger(bytes);
+                } else {
+                    unscaled = BigInteger.valueOf(in.getLong());
+                }
+                int zigzagScale = readVarInt(in);
+                employee.setSalary(new BigDecimal(unscaled, (zigzagScale >>> 1) ^ -(zigzagScale & 1)));
+            }
+            if ((flags & HAS_JOIN_DATE) != 0) {
+                employee.setJoinDate(LocalDate.ofEpochDay(in.getInt()));
+            }
+            if ((flags & HAS_DEPARTMENT) != 0) {
+                int ordinal = in.get() & 0xFF;
+                if (ordinal >= DEPARTMENTS.length) {
+                    throw new IOException("Unknown department ordinal " + ordinal);
+                }
+                employee.setDepartment(DEPARTMENTS[ordinal]);
+            }
+            return employee;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Malformed employee record", e);
+        }
+    }
+
+    private static int flag(boolean present, int flag) {
+        return present ? flag : 0;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readLength(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int readLength(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
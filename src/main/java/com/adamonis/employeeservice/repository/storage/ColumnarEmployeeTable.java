@@ -0,0 +1,304 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Employee table storing every field in its own primitive array instead of one object per employee.
+ * Ids and salaries are kept as longs, dates as epoch days, departments as ordinals, and names as references into
+ * a dictionary holding every distinct name once. A scan over one field therefore reads a single dense array,
+ * and employees are only materialized when they are read.
+ * <p>
+ * Salaries are kept as an unscaled long and a byte scale, so they are compared without creating objects.
+ * The rare salary that does not fit that form is kept aside as a {@link BigDecimal}.
+ */
+public class ColumnarEmployeeTable implements EmployeeTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final byte NO_SALARY = Byte.MIN_VALUE;
+    private static final byte LARGE_SALARY = Byte.MIN_VALUE + 1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final byte NO_DEPARTMENT = -1;
+    private static final int NO_NAME = -1;
+
+    private static final Department[] DEPARTMENTS = Department.values();
+
+    private final Map<String, Integer> nameCodes = new HashMap<>();
+    private final Map<Integer, BigDecimal> largeSalaries = new ConcurrentHashMap<>();
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    private volatile String[] names = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    @Override
+    public void append(Employee employee) {
+        Columns current = columns;
+        int count = size;
+        if (count == current.ids.length) {
+            current = current.grow(count + (count >> 1));
+            columns = current;
+        }
+        current.ids[count] = employee.getId();
+        current.firstNames[count] = nameCode(employee.getFirstName());
+        current.lastNames[count] = nameCode(employee.getLastName());
+        current.datesOfBirth[count] = encodeDate(employee.getDateOfBirth());
+        current.joinDates[count] = encodeDate(employee.getJoinDate());
+        current.departments[count] = employee.getDepartment() == null ? NO_DEPARTMENT
+                : (byte) employee.getDepartment().ordinal();
+
+        BigDecimal salary = employee.getSalary();
+        if (salary == null) {
+            current.salaryScales[count] = NO_SALARY;
+        } else if (salary.unscaledValue().bitLength() < Long.SIZE
+                && salary.scale() > LARGE_SALARY && salary.scale() <= Byte.MAX_VALUE) {
+            current.salaries[count] = salary.unscaledValue().longValue();
+            current.salaryScales[count] = (byte) salary.scale();
+        } else {
+            largeSalaries.put(count, salary);
+            current.salaryScales[count] = LARGE_SALARY;
+        }
+        size = count + 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee get(int position) {
+        Columns current = columns;
+        String[] dictionary = names;
+        Employee employee = new Employee();
+        employee.setId(current.ids[position]);
+        employee.setFirstName(name(dictionary, current.firstNames[position]));
+        employee.setLastName(name(dictionary, current.lastNames[position]));
+        employee.setDateOfBirth(decodeDate(current.datesOfBirth[position]));
+        employee.setSalary(salary(current, position));
+        employee.setJoinDate(decodeDate(current.joinDates[position]));
+        employee.setDepartment(department(current, position));
+        return employee;
+    }
+
+    @Override
+    public boolean salaryIn(int position, SalaryRange range) {
+        Columns current = columns;
+        byte scale = current.salaryScales[position];
+        if (scale == NO_SALARY) {
+            return false;
+        }
+        if (scale == LARGE_SALARY) {
+            return range.contains(largeSalaries.get(position));
+        }
+        return range.contains(current.salaries[position], scale);
+    }
+
+    @Override
+    public int firstPositionAfter(long id, int count) {
+        long[] ids = columns.ids;
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ids[middle] <= id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public List<Employee> view(int count) {
+        return new AbstractList<>() {
+            @Override
+            public Employee get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return ColumnarEmployeeTable.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * The predicate is handed one reusable view that reads each field from its column only when the predicate
+     * reads it. Only matching employees are materialized.
+     */
+    @Override
+    public List<Employee> filter(int start, int end, Predicate<Employee> predicate) {
+        RowView view = new RowView(columns, names);
+        List<Employee> matches = new ArrayList<>();
+        for (int position = start; position < end; position++) {
+            view.position = position;
+            if (predicate.test(view)) {
+                matches.add(get(position));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The visitor is handed one reusable view that reads each field from its column only when the visitor reads it.
+     */
+    @Override
+    public void forEach(int start, int end, ObjIntConsumer<Employee> visitor) {
+        RowView view = new RowView(columns, names);
+        for (int position = start; position < end; position++) {
+            view.position = position;
+            visitor.accept(view, position);
+        }
+    }
+
+    private int nameCode(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        Integer code = nameCodes.get(name);
+        if (code != null) {
+            return code;
+        }
+        int newCode = nameCodes.size();
+        String[] dictionary = names;
+        if (newCode == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, newCode + (newCode >> 1));
+        }
+        dictionary[newCode] = name;
+        // Publishing the dictionary before the row keeps every code a reader can see resolvable
+        names = dictionary;
+        nameCodes.put(name, newCode);
+        return newCode;
+    }
+
+    private BigDecimal salary(Columns current, int position) {
+        byte scale = current.salaryScales[position];
+        if (scale == NO_SALARY) {
+            return null;
+        }
+        return scale == LARGE_SALARY ? largeSalaries.get(position) : BigDecimal.valueOf(current.salaries[position], scale);
+    }
+
+    private static String name(String[] dictionary, int code) {
+        return code == NO_NAME ? null : dictionary[code];
+    }
+
+    private static int encodeDate(LocalDate date) {
+        return date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+    }
+
+    private static LocalDate decodeDate(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static Department department(Columns current, int position) {
+        byte ordinal = current.departments[position];
+        return ordinal == NO_DEPARTMENT ? null : DEPARTMENTS[ordinal];
+    }
+
+    /**
+     * The field arrays of the table, replaced as a whole when the table grows.
+     */
+    private static final class Columns {
+        private final long[] ids;
+        private final int[] firstNames;
+        private final int[] lastNames;
+        private final int[] datesOfBirth;
+        private final long[] salaries;
+        private final byte[] salaryScales;
+        private final int[] joinDates;
+        private final byte[] departments;
+
+        private Columns(int capacity) {
+            this(new long[capacity], new int[capacity], new int[capacity], new int[capacity],
+                    new long[capacity], new byte[capacity], new int[capacity], new byte[capacity]);
+        }
+
+        private Columns(long[] ids, int[] firstNames, int[] lastNames, int[] datesOfBirth, long[] salaries,
+                        byte[] salaryScales, int[] joinDates, byte[] departments) {
+            this.ids = ids;
+            this.firstNames = firstNames;
+            this.lastNames = lastNames;
+            this.datesOfBirth = datesOfBirth;
+            this.salaries = salaries;
+            this.salaryScales = salaryScales;
+            this.joinDates = joinDates;
+            this.departments = departments;
+        }
+
+        private Columns grow(int capacity) {
+            return new Columns(Arrays.copyOf(ids, capacity), Arrays.copyOf(firstNames, capacity),
+                    Arrays.copyOf(lastNames, capacity), Arrays.copyOf(datesOfBirth, capacity),
+                    Arrays.copyOf(salaries, capacity), Arrays.copyOf(salaryScales, capacity),
+                    Arrays.copyOf(joinDates, capacity), Arrays.copyOf(departments, capacity));
+        }
+    }
+
+    /**
+     * Reusable employee backed by one row of the table at a time; the view must not be kept or modified.
+     */
+    private final class RowView extends Employee {
+        private final Columns columns;
+        private final String[] names;
+        private int position;
+
+        private RowView(Columns columns, String[] names) {
+            this.columns = columns;
+            this.names = names;
+        }
+
+        @Override
+        public Long getId() {
+            return columns.ids[position];
+        }
+
+        @Override
+        public String getFirstName() {
+            return name(names, columns.firstNames[position]);
+        }
+
+        @Override
+        public String getLastName() {
+            return name(names, columns.lastNames[position]);
+        }
+
+        @Override
+        public LocalDate getDateOfBirth() {
+            return decodeDate(columns.datesOfBirth[position]);
+        }
+
+        @Override
+        public BigDecimal getSalary() {
+            return salary(columns, position);
+        }
+
+        @Override
+        public LocalDate getJoinDate() {
+            return decodeDate(columns.joinDates[position]);
+        }
+
+        @Override
+        public Department getDepartment() {
+            return department(columns, position);
+        }
+    }
+}
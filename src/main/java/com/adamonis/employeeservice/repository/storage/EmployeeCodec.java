@@ -0,0 +1,29 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+
+import java.io.IOException;
+
+/**
+ * Encodes single employees as record payloads of the snapshot and the write-ahead log.
+ */
+public interface EmployeeCodec {
+
+    /**
+     * Encodes an employee.
+     *
+     * @param employee the employee to encode
+     * @return the payload of the record
+     * @throws IOException if the employee cannot be encoded
+     */
+    byte[] encode(Employee employee) throws IOException;
+
+    /**
+     * Decodes an employee.
+     *
+     * @param payload the payload of a record written by {@link #encode}
+     * @return the employee
+     * @throws IOException if the payload is not a valid record
+     */
+    Employee decode(byte[] payload) throws IOException;
+}
@@ -0,0 +1,98 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Append-only table of employees kept in insertion order, addressed by position.
+ * Appends must be serialized by the caller. Readers never lock: they read the published size first
+ * and therefore always observe a fully written prefix of the table.
+ */
+public interface EmployeeTable extends Closeable {
+
+    /**
+     * Appends an employee to the end of the table.
+     *
+     * @param employee the employee to append, with its id assigned
+     */
+    void append(Employee employee);
+
+    /**
+     * Returns the number of employees visible to readers.
+     *
+     * @return the published size of the table
+     */
+    int size();
+
+    /**
+     * Returns the employee stored at the given position.
+     *
+     * @param position the position, which must be lower than a previously read {@link #size()}
+     * @return the employee at the given position
+     */
+    Employee get(int position);
+
+    /**
+     * Checks whether the salary of the employee at the given position lies within a range,
+     * without materializing the employee.
+     *
+     * @param position the position, which must be lower than a previously read {@link #size()}
+     * @param range    the salary range
+     * @return {@code true} if the salary lies within the range
+     */
+    boolean salaryIn(int position, SalaryRange range);
+
+    /**
+     * Finds the position of the first employee with an id greater than the given one.
+     * Ids grow with every append, so the table is sorted by id and the position is found by binary search.
+     *
+     * @param id    the id to search after
+     * @param count the number of employees to search, at most a previously read {@link #size()}
+     * @return the position of the first employee with a greater id, or {@code count} if there is none
+     */
+    int firstPositionAfter(long id, int count);
+
+    /**
+     * Returns an unmodifiable view of the first {@code count} employees.
+     *
+     * @param count the number of employees to include, at most a previously read {@link #size()}
+     * @return a read-only list backed by the table
+     */
+    List<Employee> view(int count);
+
+    /**
+     * Scans a range of positions and collects the employees matching a predicate.
+     * The predicate may be handed a transient view of each employee that is only valid during the call;
+     * matching employees are returned as independent objects. Ranges may be scanned concurrently.
+     *
+     * @param start     the first position to scan
+     * @param end       the position after the last one to scan, at most a previously read {@link #size()}
+     * @param predicate the condition to test
+     * @return the matching employees in table order
+     */
+    List<Employee> filter(int start, int end, Predicate<Employee> predicate);
+
+    /**
+     * Passes every employee in a range of positions to a visitor, in table order, without collecting them.
+     * Like {@link #filter}, the visitor may be handed a transient view of each employee that is only valid during
+     * the call. Ranges may be visited concurrently.
+     *
+     * @param start   the first position to visit
+     * @param end     the position after the last one to visit, at most a previously read {@link #size()}
+     * @param visitor receives each employee and its position
+     */
+    default void forEach(int start, int end, ObjIntConsumer<Employee> visitor) {
+        for (int position = start; position < end; position++) {
+            visitor.accept(get(position), position);
+        }
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
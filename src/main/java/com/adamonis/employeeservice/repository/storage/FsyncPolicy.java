@@ -0,0 +1,19 @@
+package com.adamonis.employeeservice.repository.storage;
+
+/**
+ * Enum representing when records appended to the write-ahead log are forced to disk.
+ */
+public enum FsyncPolicy {
+    /**
+     * Force the log after every append. No acknowledged write is ever lost.
+     */
+    ALWAYS,
+    /**
+     * Force the log periodically in the background. A crash loses at most one interval of writes.
+     */
+    INTERVAL,
+    /**
+     * Never force the log explicitly and leave flushing to the operating system.
+     */
+    NEVER
+}
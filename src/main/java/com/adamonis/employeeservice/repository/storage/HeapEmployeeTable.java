@@ -0,0 +1,74 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Employee table holding the employee objects themselves on the heap.
+ */
+public class HeapEmployeeTable implements EmployeeTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile Employee[] rows = new Employee[INITIAL_CAPACITY];
+    private volatile int size;
+
+    @Override
+    public void append(Employee employee) {
+        Employee[] current = rows;
+        int count = size;
+        if (count == current.length) {
+            current = Arrays.copyOf(current, count + (count >> 1));
+            rows = current;
+        }
+        current[count] = employee;
+        size = count + 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee get(int position) {
+        return rows[position];
+    }
+
+    @Override
+    public boolean salaryIn(int position, SalaryRange range) {
+        return range.contains(rows[position].getSalary());
+    }
+
+    @Override
+    public int firstPositionAfter(long id, int count) {
+        Employee[] current = rows;
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (current[middle].getId() <= id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public List<Employee> view(int count) {
+        return Collections.unmodifiableList(Arrays.asList(rows).subList(0, count));
+    }
+
+    @Override
+    public List<Employee> filter(int start, int end, Predicate<Employee> predicate) {
+        return view(end).subList(start, end).stream()
+                .filter(predicate)
+                .toList();
+    }
+}
@@ -0,0 +1,28 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Codec storing each employee as a JSON object.
+ */
+public class JsonEmployeeCodec implements EmployeeCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonEmployeeCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encode(Employee employee) throws IOException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Override
+    public Employee decode(byte[] payload) throws IOException {
+        return objectMapper.readValue(payload, Employee.class);
+    }
+}
@@ -0,0 +1,355 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Employee table keeping its rows encoded in a memory-mapped file, so only an offset per row stays on the heap.
+ * The file is a working copy rebuilt from the snapshot and the log on every start; it is not needed for recovery.
+ * <p>
+ * A row starts with fixed-width fields at fixed offsets: the id, the salary as an unscaled long and an int scale,
+ * both dates as epoch days, the department ordinal and a byte of flags. The names follow as length-prefixed UTF-8.
+ * Salaries are therefore compared straight from the mapped bytes, and names are only decoded for employees that
+ * are read. Salaries whose unscaled value does not fit a long are appended after the names.
+ * <p>
+ * The file is mapped in segments of {@value #SEGMENT_SIZE} bytes, and a row never spans two segments.
+ */
+public class MappedEmployeeTable implements EmployeeTable {
+
+    private static final int SEGMENT_SHIFT = 26;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int ID = 0;
+    private static final int SALARY = 8;
+    private static final int SALARY_SCALE = 16;
+    private static final int DATE_OF_BIRTH = 20;
+    private static final int JOIN_DATE = 24;
+    private static final int DEPARTMENT = 28;
+    private static final int FLAGS = 29;
+    private static final int NAMES = 30;
+
+    private static final int NO_SALARY = 1;
+    private static final int LARGE_SALARY = 1 << 1;
+    private static final int NO_DATE_OF_BIRTH = 1 << 2;
+    private static final int NO_JOIN_DATE = 1 << 3;
+    private static final int NO_DEPARTMENT = 1 << 4;
+    private static final int NO_FIRST_NAME = 1 << 5;
+    private static final int NO_LAST_NAME = 1 << 6;
+
+    private static final Department[] DEPARTMENTS = Department.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    private volatile long[] offsets = new long[INITIAL_CAPACITY];
+    private volatile int size;
+    private long writeOffset;
+
+    /**
+     * Creates an empty table backed by the given file, replacing any previous content of the file.
+     *
+     * @param path the file holding the rows
+     * @throws IOException if the file cannot be created
+     */
+    public MappedEmployeeTable(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void append(Employee employee) {
+        byte[] firstName = encodeString(employee.getFirstName());
+        byte[] lastName = encodeString(employee.getLastName());
+        BigDecimal salary = employee.getSalary();
+        boolean largeSalary = salary != null && salary.unscaledValue().bitLength() >= Long.SIZE;
+        byte[] largeUnscaled = largeSalary ? salary.unscaledValue().toByteArray() : null;
+        int length = NAMES + Integer.BYTES * 2 + firstName.length + lastName.length
+                + (largeSalary ? Integer.BYTES + largeUnscaled.length : 0);
+        if (length > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Employee row of " + length + " bytes exceeds the segment size");
+        }
+        if ((writeOffset & (SEGMENT_SIZE - 1)) + length > SEGMENT_SIZE) {
+            writeOffset = ((writeOffset >>> SEGMENT_SHIFT) + 1) << SEGMENT_SHIFT;
+        }
+        ByteBuffer segment = segment(writeOffset);
+        int row = (int) (writeOffset & (SEGMENT_SIZE - 1));
+
+        int flags = (salary == null ? NO_SALARY : 0)
+                | (largeSalary ? LARGE_SALARY : 0)
+                | (employee.getDateOfBirth() == null ? NO_DATE_OF_BIRTH : 0)
+                | (employee.getJoinDate() == null ? NO_JOIN_DATE : 0)
+                | (employee.getDepartment() == null ? NO_DEPARTMENT : 0)
+                | (employee.getFirstName() == null ? NO_FIRST_NAME : 0)
+                | (employee.getLastName() == null ? NO_LAST_NAME : 0);
+        segment.putLong(row + ID, employee.getId());
+        segment.putLong(row + SALARY, salary == null || largeSalary ? 0 : salary.unscaledValue().longValue());
+        segment.putInt(row + SALARY_SCALE, salary == null ? 0 : salary.scale());
+        segment.putInt(row + DATE_OF_BIRTH, employee.getDateOfBirth() == null ? 0
+                : Math.toIntExact(employee.getDateOfBirth().toEpochDay()));
+        segment.putInt(row + JOIN_DATE, employee.getJoinDate() == null ? 0
+                : Math.toIntExact(employee.getJoinDate().toEpochDay()));
+        segment.put(row + DEPARTMENT, (byte) (employee.getDepartment() == null ? 0 : employee.getDepartment().ordinal()));
+        segment.put(row + FLAGS, (byte) flags);
+        int position = row + NAMES;
+        position = putBytes(segment, position, firstName);
+        position = putBytes(segment, position, lastName);
+        if (largeSalary) {
+            putBytes(segment, position, largeUnscaled);
+        }
+
+        long[] currentOffsets = offsets;
+        int count = size;
+        if (count == currentOffsets.length) {
+            currentOffsets = Arrays.copyOf(currentOffsets, count + (count >> 1));
+            offsets = currentOffsets;
+        }
+        currentOffsets[count] = writeOffset;
+        writeOffset += length;
+        size = count + 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee get(int position) {
+        long offset = offsets[position];
+        return decode(segments[(int) (offset >>> SEGMENT_SHIFT)], (int) (offset & (SEGMENT_SIZE - 1)));
+    }
+
+    @Override
+    public boolean salaryIn(int position, SalaryRange range) {
+        long offset = offsets[position];
+        ByteBuffer segment = segments[(int) (offset >>> SEGMENT_SHIFT)];
+        int row = (int) (offset & (SEGMENT_SIZE - 1));
+        int flags = segment.get(row + FLAGS);
+        if ((flags & NO_SALARY) != 0) {
+            return false;
+        }
+        if ((flags & LARGE_SALARY) != 0) {
+            return range.contains(decodeSalary(segment, row, flags));
+        }
+        return range.contains(segment.getLong(row + SALARY), segment.getInt(row + SALARY_SCALE));
+    }
+
+    @Override
+    public int firstPositionAfter(long id, int count) {
+        long[] currentOffsets = offsets;
+        ByteBuffer[] currentSegments = segments;
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            long offset = currentOffsets[middle];
+            long middleId = currentSegments[(int) (offset >>> SEGMENT_SHIFT)].getLong((int) (offset & (SEGMENT_SIZE - 1)) + ID);
+            if (middleId <= id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public List<Employee> view(int count) {
+        return new AbstractList<>() {
+            @Override
+            public Employee get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return MappedEmployeeTable.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * The predicate is handed one reusable view that decodes each field only when the predicate reads it,
+     * so a predicate on the salary never decodes names. Only matching employees are decoded in full.
+     */
+    @Override
+    public List<Employee> filter(int start, int end, Predicate<Employee> predicate) {
+        RowView view = new RowView();
+        List<Employee> matches = new ArrayList<>();
+        for (int position = start; position < end; position++) {
+            long offset = offsets[position];
+            view.moveTo(segments[(int) (offset >>> SEGMENT_SHIFT)], (int) (offset & (SEGMENT_SIZE - 1)));
+            if (predicate.test(view)) {
+                matches.add(get(position));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The visitor is handed one reusable view that decodes each field only when the visitor reads it.
+     */
+    @Override
+    public void forEach(int start, int end, ObjIntConsumer<Employee> visitor) {
+        RowView view = new RowView();
+        for (int position = start; position < end; position++) {
+            long offset = offsets[position];
+            view.moveTo(segments[(int) (offset >>> SEGMENT_SHIFT)], (int) (offset & (SEGMENT_SIZE - 1)));
+            visitor.accept(view, position);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    private ByteBuffer segment(long offset) {
+        int index = (int) (offset >>> SEGMENT_SHIFT);
+        ByteBuffer[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        try {
+            ByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, (long) index << SEGMENT_SHIFT, SEGMENT_SIZE);
+            current = Arrays.copyOf(current, index + 1);
+            current[index] = segment;
+            segments = current;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error mapping employee table segment " + index + " of " + path, e);
+        }
+    }
+
+    private static Employee decode(ByteBuffer segment, int row) {
+        int flags = segment.get(row + FLAGS);
+        Employee employee = new Employee();
+        employee.setId(segment.getLong(row + ID));
+        int lastNameStart = row + NAMES + Integer.BYTES + segment.getInt(row + NAMES);
+        employee.setFirstName((flags & NO_FIRST_NAME) != 0 ? null : getString(segment, row + NAMES));
+        employee.setLastName((flags & NO_LAST_NAME) != 0 ? null : getString(segment, lastNameStart));
+        employee.setDateOfBirth(decodeDate(segment, row + DATE_OF_BIRTH, flags, NO_DATE_OF_BIRTH));
+        employee.setSalary(decodeSalary(segment, row, flags));
+        employee.setJoinDate(decodeDate(segment, row + JOIN_DATE, flags, NO_JOIN_DATE));
+        employee.setDepartment(decodeDepartment(segment, row, flags));
+        return employee;
+    }
+
+    private static BigDecimal decodeSalary(ByteBuffer segment, int row, int flags) {
+        if ((flags & NO_SALARY) != 0) {
+            return null;
+        }
+        int scale = segment.getInt(row + SALARY_SCALE);
+        if ((flags & LARGE_SALARY) == 0) {
+            return BigDecimal.valueOf(segment.getLong(row + SALARY), scale);
+        }
+        int position = row + NAMES;
+        position += Integer.BYTES + segment.getInt(position);
+        position += Integer.BYTES + segment.getInt(position);
+        byte[] unscaled = new byte[segment.getInt(position)];
+        segment.get(position + Integer.BYTES, unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static LocalDate decodeDate(ByteBuffer segment, int index, int flags, int absentFlag) {
+        return (flags & absentFlag) != 0 ? null : LocalDate.ofEpochDay(segment.getInt(index));
+    }
+
+    private static Department decodeDepartment(ByteBuffer segment, int row, int flags) {
+        return (flags & NO_DEPARTMENT) != 0 ? null : DEPARTMENTS[segment.get(row + DEPARTMENT)];
+    }
+
+    private static byte[] encodeString(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int putBytes(ByteBuffer segment, int position, byte[] bytes) {
+        segment.putInt(position, bytes.length);
+        segment.put(position + Integer.BYTES, bytes);
+        return position + Integer.BYTES + bytes.length;
+    }
+
+    private static String getString(ByteBuffer segment, int position) {
+        byte[] bytes = new byte[segment.getInt(position)];
+        segment.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reusable employee backed by one row of the table at a time. Fields are decoded when their getter is called;
+     * the view must not be kept or modified.
+     */
+    private static final class RowView extends Employee {
+        private ByteBuffer segment;
+        private int row;
+        private int flags;
+
+        private void moveTo(ByteBuffer segment, int row) {
+            this.segment = segment;
+            this.row = row;
+            this.flags = segment.get(row + FLAGS);
+        }
+
+        @Override
+        public Long getId() {
+            return segment.getLong(row + ID);
+        }
+
+        @Override
+        public String getFirstName() {
+            return (flags & NO_FIRST_NAME) != 0 ? null : getString(segment, row + NAMES);
+        }
+
+        @Override
+        public String getLastName() {
+            return (flags & NO_LAST_NAME) != 0 ? null
+                    : getString(segment, row + NAMES + Integer.BYTES + segment.getInt(row + NAMES));
+        }
+
+        @Override
+        public LocalDate getDateOfBirth() {
+            return decodeDate(segment, row + DATE_OF_BIRTH, flags, NO_DATE_OF_BIRTH);
+        }
+
+        @Override
+        public BigDecimal getSalary() {
+            return decodeSalary(segment, row, flags);
+        }
+
+        @Override
+        public LocalDate getJoinDate() {
+            return decodeDate(segment, row + JOIN_DATE, flags, NO_JOIN_DATE);
+        }
+
+        @Override
+        public Department getDepartment() {
+            return decodeDepartment(segment, row, flags);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Scans employee tables with a predicate, or the candidate positions of an indexed search with a matcher,
+ * spreading large scans over a dedicated fork-join pool.
+ * A scan below the threshold runs on the calling thread. A larger scan is split into fixed-size segments that
+ * the calling thread and at most {@code maxTasksPerScan - 1} pool tasks take one at a time, so a single scan never
+ * occupies more than its share of the pool. The matches of the segments are concatenated in table order, which is
+ * id order.
+ */
+public class ParallelTableScanner implements Closeable {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int segmentSize;
+    private final int maxTasksPerScan;
+
+    /**
+     * Creates a scanner with its own pool.
+     *
+     * @param poolSize        the number of threads of the pool
+     * @param threshold       the number of employees from which a scan runs in parallel
+     * @param segmentSize     the number of employees in one segment of a parallel scan
+     * @param maxTasksPerScan the number of segments one scan evaluates at the same time, the calling thread included
+     */
+    public ParallelTableScanner(int poolSize, int threshold, int segmentSize, int maxTasksPerScan) {
+        if (poolSize < 1 || segmentSize < 1 || maxTasksPerScan < 1) {
+            throw new IllegalArgumentException("Pool size, segment size and tasks per scan must be positive");
+        }
+        this.threshold = threshold;
+        this.segmentSize = segmentSize;
+        this.maxTasksPerScan = maxTasksPerScan;
+        // The pool index of a worker is only assigned once it starts, so threads are numbered here
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ForkJoinPool(poolSize, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("employee-scan-" + threadCount.getAndIncrement());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Collects the employees among the first {@code count} of a table that match a predicate.
+     *
+     * @param table     the table to scan
+     * @param count     the number of employees to scan, at most a previously read {@link EmployeeTable#size()}
+     * @param predicate the condition to test; it may be called from several threads at once
+     * @return the matching employees in table order
+     */
+    public List<Employee> filter(EmployeeTable table, int count, Predicate<Employee> predicate) {
+        int segments = (int) (((long) count + segmentSize - 1) / segmentSize);
+        int tasks = Math.min(maxTasksPerScan, segments);
+        if (count < threshold || tasks < 2) {
+            return table.filter(0, count, predicate);
+        }
+
+        List<List<Employee>> matches = new ArrayList<>(Collections.nCopies(segments, null));
+        AtomicInteger nextSegment = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int segment = nextSegment.getAndIncrement(); segment < segments; segment = nextSegment.getAndIncrement()) {
+                int start = segment * segmentSize;
+                matches.set(segment, table.filter(start, (int) Math.min(count, (long) start + segmentSize), predicate));
+            }
+        };
+        List<ForkJoinTask<?>> helpers = new ArrayList<>(tasks - 1);
+        try {
+            for (int i = 1; i < tasks; i++) {
+                helpers.add(pool.submit(worker));
+            }
+            worker.run();
+            helpers.forEach(ForkJoinTask::join);
+        } catch (RuntimeException | Error e) {
+            // Stops the remaining segments from being taken by the helpers of a failed scan
+            nextSegment.set(segments);
+            throw e;
+        }
+
+        int total = 0;
+        for (List<Employee> segmentMatches : matches) {
+            total += segmentMatches.size();
+        }
+        List<Employee> result = new ArrayList<>(total);
+        matches.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Collects, in order, the employees that a matcher finds at the given table positions, stopping once the limit
+     * is reached. Large position arrays are split into segments like table scans. Segments are taken in order and
+     * no new segment is taken once the finished ones hold enough matches, so a page of a broad search examines
+     * only a few segments beyond those that fill it.
+     *
+     * @param positions the candidate positions in ascending order
+     * @param limit     the maximum number of employees to return
+     * @param matcher   returns the employee at a position if it matches, or null; it may be called from several
+     *                  threads at once
+     * @return at most {@code limit} matching employees in position order
+     */
+    public List<Employee> filter(int[] positions, int limit, IntFunction<Employee> matcher) {
+        int count = positions.length;
+        int segments = (int) (((long) count + segmentSize - 1) / segmentSize);
+        int tasks = Math.min(maxTasksPerScan, segments);
+        if (count < threshold || tasks < 2) {
+            return match(positions, 0, count, limit, matcher);
+        }
+
+        List<List<Employee>> matches = new ArrayList<>(Collections.nCopies(segments, null));
+        AtomicInteger nextSegment = new AtomicInteger();
+        AtomicInteger matched = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int segment = nextSegment.getAndIncrement(); segment < segments; segment = nextSegment.getAndIncrement()) {
+                // Every finished segment precedes this one, so the first matches are already found
+                if (matched.get() >= limit) {
+                    return;
+                }
+                int start = segment * segmentSize;
+                List<Employee> segmentMatches = match(positions, start,
+                        (int) Math.min(count, (long) start + segmentSize), limit, matcher);
+                matches.set(segment, segmentMatches);
+                matched.addAndGet(segmentMatches.size());
+            }
+        };
+        List<ForkJoinTask<?>> helpers = new ArrayList<>(tasks - 1);
+        try {
+            for (int i = 1; i < tasks; i++) {
+                helpers.add(pool.submit(worker));
+            }
+            worker.run();
+            helpers.forEach(ForkJoinTask::join);
+        } catch (RuntimeException | Error e) {
+            nextSegment.set(segments);
+            throw e;
+        }
+
+        List<Employee> result = new ArrayList<>(Math.min(limit, matched.get()));
+        // Segments left untaken only follow segments that together hold the limit
+        for (int segment = 0; segment < segments && matches.get(segment) != null && result.size() < limit; segment++) {
+            List<Employee> segmentMatches = matches.get(segment);
+            result.addAll(segmentMatches.subList(0, Math.min(segmentMatches.size(), limit - result.size())));
+        }
+        return result;
+    }
+
+    /**
+     * Runs independent tasks at the same time, the first one on the calling thread and the others on the pool.
+     *
+     * @param tasks the tasks to run
+     */
+    public void runAll(Runnable... tasks) {
+        List<ForkJoinTask<?>> helpers = new ArrayList<>(tasks.length);
+        for (int i = 1; i < tasks.length; i++) {
+            helpers.add(pool.submit(tasks[i]));
+        }
+        if (tasks.length > 0) {
+            tasks[0].run();
+        }
+        helpers.forEach(ForkJoinTask::join);
+    }
+
+    /**
+     * Runs a task on the pool.
+     *
+     * @param task the task to run
+     * @param <T>  the type of the result
+     * @return the running task, whose {@link ForkJoinTask#join()} returns the result
+     */
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    /**
+     * Returns the number of threads of the pool.
+     *
+     * @return the parallelism of the pool
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    private static List<Employee> match(int[] positions, int from, int to, int limit, IntFunction<Employee> matcher) {
+        List<Employee> matches = new ArrayList<>();
+        for (int i = from; i < to && matches.size() < limit; i++) {
+            Employee employee = matcher.apply(positions[i]);
+            if (employee != null) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
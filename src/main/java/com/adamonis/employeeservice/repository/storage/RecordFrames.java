@@ -0,0 +1,54 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+/**
+ * Framing of records in storage files: {@code [length][crc32][payload]}.
+ * A frame torn by a crash or corrupted on disk fails its length or checksum check when read back.
+ */
+final class RecordFrames {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int MAX_RECORD_SIZE = 1 << 20;
+
+    private RecordFrames() {
+    }
+
+    static void write(DataOutput out, byte[] payload, CRC32 crc) throws IOException {
+        crc.reset();
+        crc.update(payload);
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+    }
+
+    /**
+     * Reads the next frame.
+     *
+     * @param in the stream positioned at the start of a frame
+     * @return the payload, or {@code null} at the end of the stream or if the frame is torn or corrupted
+     * @throws IOException if the stream cannot be read
+     */
+    static byte[] read(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] payload = in.readNBytes(length);
+            if (payload.length < length) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive salary range.
+ * Besides {@link BigDecimal} salaries it accepts salaries given as an unscaled long and a scale, as they are stored
+ * by {@link MappedEmployeeTable}, and compares those without creating objects whenever the scales can be aligned
+ * within a long.
+ */
+public final class SalaryRange {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Bound from;
+    private final Bound to;
+
+    /**
+     * Creates a salary range.
+     *
+     * @param from the minimum salary, inclusive
+     * @param to   the maximum salary, inclusive
+     */
+    public SalaryRange(BigDecimal from, BigDecimal to) {
+        this.from = new Bound(from);
+        this.to = new Bound(to);
+    }
+
+    public boolean contains(BigDecimal salary) {
+        return salary.compareTo(from.value) >= 0 && salary.compareTo(to.value) <= 0;
+    }
+
+    /**
+     * Checks whether a salary given as {@code unscaled * 10^-scale} lies within the range.
+     *
+     * @param unscaled the unscaled value of the salary
+     * @param scale    the scale of the salary
+     * @return {@code true} if the salary lies within the range
+     */
+    public boolean contains(long unscaled, int scale) {
+        return from.compareTo(unscaled, scale) <= 0 && to.compareTo(unscaled, scale) >= 0;
+    }
+
+    private static final class Bound {
+        private final BigDecimal value;
+        private final boolean compact;
+        private final long unscaled;
+        private final int scale;
+
+        private Bound(BigDecimal value) {
+            this.value = value;
+            this.compact = value.unscaledValue().bitLength() < Long.SIZE;
+            this.unscaled = compact ? value.unscaledValue().longValue() : 0;
+            this.scale = value.scale();
+        }
+
+        private int compareTo(long salaryUnscaled, int salaryScale) {
+            if (compact) {
+                if (salaryScale == scale) {
+                    return Long.compare(unscaled, salaryUnscaled);
+                }
+                int difference = salaryScale - scale;
+                if (difference > 0 && difference < POWERS_OF_TEN.length) {
+                    long aligned = unscaled * POWERS_OF_TEN[difference];
+                    if (Math.multiplyHigh(unscaled, POWERS_OF_TEN[difference]) == (aligned >> 63)) {
+                        return Long.compare(aligned, salaryUnscaled);
+                    }
+                } else if (difference < 0 && -difference < POWERS_OF_TEN.length) {
+                    long aligned = salaryUnscaled * POWERS_OF_TEN[-difference];
+                    if (Math.multiplyHigh(salaryUnscaled, POWERS_OF_TEN[-difference]) == (aligned >> 63)) {
+                        return Long.compare(unscaled, aligned);
+                    }
+                }
+            }
+            return value.compareTo(BigDecimal.valueOf(salaryUnscaled, salaryScale));
+        }
+    }
+}
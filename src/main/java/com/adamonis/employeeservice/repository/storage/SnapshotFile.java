@@ -0,0 +1,202 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Point-in-time copy of all employees.
+ * A JSON snapshot is a plain JSON array; a binary snapshot is a {@link StorageHeader header}, the number of
+ * employees and one framed record per employee. Each format has its own file, and writing a snapshot removes
+ * the file of the other format, so switching formats migrates the snapshot the next time it is written.
+ * A new snapshot is written to a temporary file and atomically moved into place,
+ * so readers always find either the previous or the new snapshot in full.
+ */
+public class SnapshotFile {
+
+    private static final int MAGIC = 0x45534E50;
+    private static final int DECODE_CHUNK_SIZE = 4096;
+
+    private final Path jsonPath;
+    private final Path binaryPath;
+    private final ObjectMapper objectMapper;
+    private final StorageFormat format;
+    private final StorageMetrics metrics;
+
+    /**
+     * Creates a snapshot stored in one of two files depending on its format.
+     *
+     * @param jsonPath     the file of a JSON snapshot
+     * @param binaryPath   the file of a binary snapshot
+     * @param objectMapper the mapper used by the JSON format
+     * @param format       the format new snapshots are written in
+     * @param metrics      the meters recording reads and writes
+     */
+    public SnapshotFile(Path jsonPath, Path binaryPath, ObjectMapper objectMapper, StorageFormat format,
+                        StorageMetrics metrics) {
+        this.jsonPath = jsonPath;
+        this.binaryPath = binaryPath;
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads all employees from the snapshot, preferring the file of the configured format when both exist.
+     * The records of a binary snapshot are read in chunks that are decoded on the pool of the decoder while the
+     * next chunks are read, and a bounded number of chunks is in flight at a time, so the snapshot is never held in
+     * memory whole. A JSON snapshot is parsed on the calling thread, one employee at a time.
+     *
+     * @param consumer receives each employee in snapshot order, on the calling thread
+     * @param decoder  the scanner whose pool decodes binary records
+     * @return the number of employees read, 0 if no snapshot has been written yet
+     * @throws IOException if the snapshot cannot be read
+     */
+    public long read(Consumer<Employee> consumer, ParallelTableScanner decoder) throws IOException {
+        Path path = Files.exists(path(format)) ? path(format) : path(otherFormat());
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        long count = read(path, consumer, decoder);
+        metrics.recordSnapshotRead(startNanos, Files.size(path));
+        return count;
+    }
+
+    private long read(Path path, Consumer<Employee> consumer, ParallelTableScanner decoder) throws IOException {
+        try (BufferedInputStream buffered = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+             DataInputStream in = new DataInputStream(buffered)) {
+            StorageFormat fileFormat = StorageHeader.read(buffered, MAGIC);
+            if (fileFormat == null) {
+                return readJson(in, consumer);
+            }
+            EmployeeCodec codec = fileFormat.createCodec(objectMapper);
+            int count = in.readInt();
+            Deque<ForkJoinTask<List<Employee>>> decoding = new ArrayDeque<>();
+            int maxChunksInFlight = 2 * decoder.parallelism();
+            try {
+                for (int first = 0; first < count; first += DECODE_CHUNK_SIZE) {
+                    byte[][] payloads = new byte[Math.min(DECODE_CHUNK_SIZE, count - first)][];
+                    for (int i = 0; i < payloads.length; i++) {
+                        payloads[i] = RecordFrames.read(in);
+                        if (payloads[i] == null) {
+                            throw new IOException("Snapshot " + path + " is corrupted at employee " + (first + i)
+                                    + " of " + count);
+                        }
+                    }
+                    decoding.add(decoder.submit(() -> decode(codec, payloads)));
+                    if (decoding.size() >= maxChunksInFlight) {
+                        join(decoding.poll()).forEach(consumer);
+                    }
+                }
+                while (!decoding.isEmpty()) {
+                    join(decoding.poll()).forEach(consumer);
+                }
+            } finally {
+                decoding.forEach(chunk -> chunk.cancel(false));
+            }
+            return count;
+        }
+    }
+
+    private static List<Employee> decode(EmployeeCodec codec, byte[][] payloads) {
+        List<Employee> employees = new ArrayList<>(payloads.length);
+        try {
+            for (byte[] payload : payloads) {
+                employees.add(codec.decode(payload));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return employees;
+    }
+
+    private static List<Employee> join(ForkJoinTask<List<Employee>> chunk) throws IOException {
+        try {
+            return chunk.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long readJson(InputStream in, Consumer<Employee> consumer) throws IOException {
+        // Reading the values of the root array one by one rather than binding the whole array
+        long count = 0;
+        try (MappingIterator<Employee> employees = objectMapper.readerFor(Employee.class).readValues(in)) {
+            while (employees.hasNextValue()) {
+                consumer.accept(employees.nextValue());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the snapshot with the given employees, written in the configured format.
+     *
+     * @param employees the employees to write
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void write(List<Employee> employees) throws IOException {
+        Path path = path(format);
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        long startNanos = System.nanoTime();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile), 1 << 16)) {
+            if (format == StorageFormat.JSON) {
+                objectMapper.writeValue(out, employees);
+            } else {
+                writeBinary(out, employees);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        long bytes = Files.size(tempFile);
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(path(otherFormat()));
+        metrics.recordSnapshotWrite(startNanos, bytes);
+    }
+
+    private void writeBinary(OutputStream out, List<Employee> employees) throws IOException {
+        ByteBuffer header = StorageHeader.encode(MAGIC, format);
+        out.write(header.array(), 0, header.remaining());
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(employees.size());
+        EmployeeCodec codec = format.createCodec(objectMapper);
+        CRC32 crc = new CRC32();
+        for (Employee employee : employees) {
+            RecordFrames.write(data, codec.encode(employee), crc);
+        }
+        data.flush();
+    }
+
+    private Path path(StorageFormat snapshotFormat) {
+        return snapshotFormat == StorageFormat.JSON ? jsonPath : binaryPath;
+    }
+
+    private StorageFormat otherFormat() {
+        return format == StorageFormat.JSON ? StorageFormat.BINARY : StorageFormat.JSON;
+    }
+}
@@ -0,0 +1,52 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Encoding of employee records in the snapshot and the write-ahead log.
+ * The format of a file is recorded in its header, so files are always read with the codec they were written with;
+ * the configured format only applies to files written from then on.
+ */
+public enum StorageFormat {
+
+    /**
+     * Jackson JSON, one object per record. Readable with standard tools.
+     */
+    JSON((byte) 1),
+
+    /**
+     * Compact binary rows; see {@link BinaryEmployeeCodec}.
+     */
+    BINARY((byte) 2);
+
+    private final byte id;
+
+    StorageFormat(byte id) {
+        this.id = id;
+    }
+
+    byte id() {
+        return id;
+    }
+
+    /**
+     * Creates the codec reading and writing records in this format.
+     *
+     * @param objectMapper the mapper used by the JSON format
+     * @return the codec
+     */
+    public EmployeeCodec createCodec(ObjectMapper objectMapper) {
+        return this == JSON ? new JsonEmployeeCodec(objectMapper) : new BinaryEmployeeCodec();
+    }
+
+    static StorageFormat fromId(byte id) throws IOException {
+        for (StorageFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        throw new IOException("Unknown storage format " + id);
+    }
+}
@@ -0,0 +1,51 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Header at the start of every storage file written in a versioned layout:
+ * {@code [magic number][layout version][format id]}.
+ * Files written before headers were introduced have no header and hold JSON from the first byte; their first
+ * bytes never form a magic number.
+ */
+final class StorageHeader {
+
+    static final int SIZE = Integer.BYTES + 2;
+    static final byte VERSION = 1;
+
+    private StorageHeader() {
+    }
+
+    static ByteBuffer encode(int magic, StorageFormat format) {
+        return ByteBuffer.allocate(SIZE)
+                .putInt(magic)
+                .put(VERSION)
+                .put(format.id())
+                .flip();
+    }
+
+    /**
+     * Reads the header from the start of a stream.
+     *
+     * @param in    the stream, positioned at the start of the file
+     * @param magic the magic number of the file type
+     * @return the format of the file, with the stream positioned after the header, or {@code null} if the file
+     * has no header, with the stream still at the start
+     * @throws IOException if the header names an unsupported version or format
+     */
+    static StorageFormat read(BufferedInputStream in, int magic) throws IOException {
+        in.mark(SIZE);
+        ByteBuffer header = ByteBuffer.wrap(in.readNBytes(SIZE));
+        if (header.remaining() < SIZE || header.getInt() != magic) {
+            in.reset();
+            return null;
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported storage layout version " + version);
+        }
+        return StorageFormat.fromId(header.get());
+    }
+}
@@ -0,0 +1,73 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the storage files: durations and sizes of log appends, log fsyncs, and snapshot reads and writes.
+ */
+public class StorageMetrics {
+
+    private static final String BYTES = "bytes";
+
+    private final Timer logAppendTimer;
+    private final DistributionSummary logAppendBytes;
+    private final Timer logFsyncTimer;
+    private final Timer snapshotReadTimer;
+    private final DistributionSummary snapshotReadBytes;
+    private final Timer snapshotWriteTimer;
+    private final DistributionSummary snapshotWriteBytes;
+
+    public StorageMetrics(MeterRegistry registry) {
+        this.logAppendTimer = Timer.builder("employee.storage.log.append")
+                .description("Time to write one group of records to the write-ahead log, excluding fsync")
+                .register(registry);
+        this.logAppendBytes = DistributionSummary.builder("employee.storage.log.append.size")
+                .description("Bytes written to the write-ahead log per append")
+                .baseUnit(BYTES)
+                .register(registry);
+        this.logFsyncTimer = Timer.builder("employee.storage.log.fsync")
+                .description("Time to force the write-ahead log to disk")
+                .register(registry);
+        this.snapshotReadTimer = Timer.builder("employee.storage.snapshot")
+                .description("Time to read or write the snapshot")
+                .tag("operation", "read")
+                .register(registry);
+        this.snapshotReadBytes = DistributionSummary.builder("employee.storage.snapshot.size")
+                .description("Size of the snapshot read or written")
+                .baseUnit(BYTES)
+                .tag("operation", "read")
+                .register(registry);
+        this.snapshotWriteTimer = Timer.builder("employee.storage.snapshot")
+                .description("Time to read or write the snapshot")
+                .tag("operation", "write")
+                .register(registry);
+        this.snapshotWriteBytes = DistributionSummary.builder("employee.storage.snapshot.size")
+                .description("Size of the snapshot read or written")
+                .baseUnit(BYTES)
+                .tag("operation", "write")
+                .register(registry);
+    }
+
+    void recordLogAppend(long startNanos, int bytes) {
+        logAppendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        logAppendBytes.record(bytes);
+    }
+
+    void recordLogFsync(long startNanos) {
+        logFsyncTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordSnapshotRead(long startNanos, long bytes) {
+        snapshotReadTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        snapshotReadBytes.record(bytes);
+    }
+
+    void recordSnapshotWrite(long startNanos, long bytes) {
+        snapshotWriteTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        snapshotWriteBytes.record(bytes);
+    }
+}
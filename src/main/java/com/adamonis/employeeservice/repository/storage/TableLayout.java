@@ -0,0 +1,22 @@
+package com.adamonis.employeeservice.repository.storage;
+
+/**
+ * Where the rows of the employee table are kept.
+ */
+public enum TableLayout {
+
+    /**
+     * Employee objects on the heap; every read returns the stored object.
+     */
+    HEAP,
+
+    /**
+     * Encoded rows in a memory-mapped file, decoded on every read; see {@link MappedEmployeeTable}.
+     */
+    MAPPED,
+
+    /**
+     * One primitive array per field on the heap, materialized on every read; see {@link ColumnarEmployeeTable}.
+     */
+    COLUMNAR
+}
@@ -0,0 +1,238 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of created employees.
+ * The log starts with a {@link StorageHeader header} naming the format of its records. Every record is framed as
+ * {@code [length][crc32][payload]}, so a write torn by a crash is detected on replay and cut off instead of
+ * corrupting the records before it. Records are appended in the format of the existing log, which may differ from
+ * the configured one until the log is reset or rotated; logs without a header hold JSON records.
+ * Appends must be serialized by the caller.
+ */
+@Slf4j
+public class WriteAheadLog implements Closeable {
+
+    private static final int MAGIC = 0x4557414C;
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final StorageFormat format;
+    private final FsyncPolicy fsyncPolicy;
+    private final StorageMetrics metrics;
+    private final FileChannel channel;
+    private final ScheduledExecutorService syncScheduler;
+    private EmployeeCodec codec;
+    private volatile boolean dirty;
+    private volatile long recordCount;
+
+    /**
+     * Opens the log at the given path, creating the file if it does not exist.
+     * {@link #replay(Consumer)} must be called before the first append.
+     *
+     * @param path          the log file
+     * @param objectMapper  the mapper used by the JSON format
+     * @param format        the format of records in a new or reset log
+     * @param fsyncPolicy   when appended records are forced to disk
+     * @param fsyncInterval how often the log is forced when the policy is {@link FsyncPolicy#INTERVAL}
+     * @param metrics       the meters recording appends and fsyncs
+     * @throws IOException if the file cannot be opened
+     */
+    public WriteAheadLog(Path path, ObjectMapper objectMapper, StorageFormat format, FsyncPolicy fsyncPolicy,
+                         Duration fsyncInterval, StorageMetrics metrics) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.fsyncPolicy = fsyncPolicy;
+        this.metrics = metrics;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            this.syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-log-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = fsyncInterval.toMillis();
+            syncScheduler.scheduleWithFixedDelay(this::syncIfDirty, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.syncScheduler = null;
+        }
+    }
+
+    /**
+     * Reads every intact record from the start of the log and positions the log for appending.
+     * A torn or corrupted tail is truncated.
+     *
+     * @param consumer receives each replayed employee in log order
+     * @return the number of records replayed
+     * @throws IOException if the log cannot be read
+     */
+    public long replay(Consumer<Employee> consumer) throws IOException {
+        if (channel.size() < StorageHeader.SIZE) {
+            // A new log, or one torn before its header or first record was complete
+            writeHeader();
+        }
+        long validLength;
+        long records = 0;
+        try (BufferedInputStream buffered = new BufferedInputStream(Files.newInputStream(path));
+             DataInputStream in = new DataInputStream(buffered)) {
+            StorageFormat fileFormat = StorageHeader.read(buffered, MAGIC);
+            codec = (fileFormat == null ? StorageFormat.JSON : fileFormat).createCodec(objectMapper);
+            validLength = fileFormat == null ? 0 : StorageHeader.SIZE;
+            while (true) {
+                byte[] payload = RecordFrames.read(in);
+                if (payload == null) {
+                    break;
+                }
+                consumer.accept(codec.decode(payload));
+                validLength += RecordFrames.HEADER_SIZE + payload.length;
+                records++;
+            }
+        }
+        if (validLength < channel.size()) {
+            log.warn("Truncating {} bytes of incomplete records at the end of {}", channel.size() - validLength, path);
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        channel.position(validLength);
+        recordCount = records;
+        return records;
+    }
+
+    /**
+     * Appends the given employees as one write and forces it to disk according to the fsync policy.
+     *
+     * @param employees the employees to append
+     * @throws IOException if the records cannot be written
+     */
+    public void append(List<Employee> employees) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(employees.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        CRC32 crc = new CRC32();
+        for (Employee employee : employees) {
+            RecordFrames.write(out, codec.encode(employee), crc);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        long start = channel.position();
+        long startNanos = System.nanoTime();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            channel.truncate(start);
+            throw e;
+        }
+        metrics.recordLogAppend(startNanos, buffer.capacity());
+
+        recordCount += employees.size();
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            force();
+        } else {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Discards every record in the log. Records appended from then on use the configured format.
+     *
+     * @throws IOException if the log cannot be truncated
+     */
+    public void reset() throws IOException {
+        writeHeader();
+        channel.position(StorageHeader.SIZE);
+        recordCount = 0;
+    }
+
+    /**
+     * Returns the number of records currently held by the log.
+     *
+     * @return the record count
+     */
+    public long recordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (syncScheduler != null) {
+            syncScheduler.shutdown();
+        }
+        if (channel.isOpen()) {
+            channel.force(true);
+            channel.close();
+        }
+    }
+
+    private void syncIfDirty() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            force();
+        } catch (IOException e) {
+            dirty = true;
+            log.error("Error syncing employee log {}", path, e);
+        }
+    }
+
+    private void force() throws IOException {
+        long startNanos = System.nanoTime();
+        channel.force(false);
+        metrics.recordLogFsync(startNanos);
+    }
+
+    private void writeHeader() throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = StorageHeader.encode(MAGIC, format);
+        while (header.hasRemaining()) {
+            channel.write(header, StorageHeader.SIZE - header.remaining());
+        }
+        channel.force(true);
+        codec = format.createCodec(objectMapper);
+    }
+
+    /**
+     * Replays a log file that is no longer appended to, such as one rotated out by compaction.
+     *
+     * @param path         the log file
+     * @param objectMapper the mapper used by the JSON format
+     * @param consumer     receives each replayed employee in log order
+     * @throws IOException if the log cannot be read
+     */
+    public static void replayFile(Path path, ObjectMapper objectMapper, Consumer<Employee> consumer) throws IOException {
+        try (BufferedInputStream buffered = new BufferedInputStream(Files.newInputStream(path));
+             DataInputStream in = new DataInputStream(buffered)) {
+            StorageFormat fileFormat = StorageHeader.read(buffered, MAGIC);
+            EmployeeCodec codec = (fileFormat == null ? StorageFormat.JSON : fileFormat).createCodec(objectMapper);
+            byte[] payload;
+            while ((payload = RecordFrames.read(in)) != null) {
+                consumer.accept(codec.decode(payload));
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.CacheConfig;
+import com.adamonis.employeeservice.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service reporting the statistics of the search cache, used to tune its size against its hit rate.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsDto getSearchCacheStats() {
+        Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE)).getNativeCache();
+        // Applies pending writes, which Caffeine otherwise replays asynchronously, so the size and weight are current
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        Policy.Eviction<Object, Object> eviction = cache.policy().eviction().orElseThrow();
+        return CacheStatsDto.builder()
+                .requestCount(stats.requestCount())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .loadCount(stats.loadCount())
+                .totalLoadTimeNanos(stats.totalLoadTime())
+                .averageLoadTimeNanos(stats.averageLoadPenalty())
+                .estimatedSize(cache.estimatedSize())
+                .weightedSize(eviction.weightedSize().orElse(0))
+                .maximumWeight(eviction.getMaximum())
+                .build();
+    }
+}
@@ -0,0 +1,401 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.dto.EmployeeChangeDto;
+import com.adamonis.employeeservice.dto.EmployeeChangePageDto;
+import com.adamonis.employeeservice.exception.TooManySubscribersException;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service publishing every employee creation as an ordered change.
+ * The repository table is append-only and ordered by commit, so it doubles as the change log: the change with
+ * sequence number {@code n} is the employee at table position {@code n - 1}, and any offset can be replayed for as
+ * long as the data exists. Consumers either poll from an offset, optionally waiting for the next change, or keep
+ * a server-sent event stream open.
+ * <p>
+ * All streams are fed by one notifier thread, which the repository wakes after every commit. In each round it
+ * reads the next batch of changes once for every offset that subscribers have reached and queues it for all of
+ * them, so an open stream costs no thread of its own while it is idle. Each stream has a small bounded queue that a
+ * shared pool of sender threads writes out, so a client that stops reading only holds up its own stream: its queue
+ * fills and it gets no further batches, and once one of its writes has been blocked for longer than
+ * {@link #SEND_TIMEOUT} the stream is dropped and completed as soon as the write returns. The client can then
+ * reconnect and resume from its {@code Last-Event-ID}.
+ */
+@Slf4j
+@Service
+public class EmployeeChangeService {
+
+    public static final String CREATED = "created";
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_SUBSCRIBERS = 10_000;
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_QUEUED_BATCHES = 4;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeJsonCache employeeJsonCache;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock notifierLock = new ReentrantLock();
+    private final Condition wakeUp = notifierLock.newCondition();
+    private final Thread notifier;
+    private final ExecutorService senders;
+    private final long sendTimeoutNanos;
+    // Guarded by notifierLock: set by commits and new subscribers, cleared by the notifier before it sends
+    private boolean pending;
+    private volatile boolean running = true;
+
+    @Autowired
+    public EmployeeChangeService(EmployeeRepository employeeRepository, EmployeeJsonCache employeeJsonCache) {
+        this(employeeRepository, employeeJsonCache, SEND_TIMEOUT);
+    }
+
+    EmployeeChangeService(EmployeeRepository employeeRepository, EmployeeJsonCache employeeJsonCache,
+                          Duration sendTimeout) {
+        this.employeeRepository = employeeRepository;
+        this.employeeJsonCache = employeeJsonCache;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        // Threads are only busy while writing, so their number follows the streams being written at the same time
+        this.senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "employee-change-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.notifier = new Thread(this::runNotifier, "employee-changes");
+        this.notifier.setDaemon(true);
+        this.notifier.start();
+        employeeRepository.addCreateListener(this::wakeUpNotifier);
+    }
+
+    /**
+     * Reads the changes after an offset, waiting for the next change if there is none yet.
+     *
+     * @param after the sequence number of the last change already seen, or 0 to start from the first
+     * @param limit the maximum number of changes to return
+     * @param wait  the maximum time to wait for a change when none follows the offset
+     * @return the changes found, which are empty if none arrived in time
+     */
+    public EmployeeChangePageDto getChanges(long after, int limit, Duration wait) {
+        List<Employee> created = employeeRepository.findCreatedAfter(after, limit);
+        if (created.isEmpty() && !wait.isZero()) {
+            try {
+                if (employeeRepository.awaitCreatedAfter(after, wait)) {
+                    created = employeeRepository.findCreatedAfter(after, limit);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<EmployeeChangeDto> changes = new ArrayList<>(created.size());
+        long sequence = after;
+        for (Employee employee : created) {
+            changes.add(toChange(++sequence, employee));
+        }
+        return EmployeeChangePageDto.builder()
+                .changes(changes)
+                .lastSequence(sequence)
+                .build();
+    }
+
+    /**
+     * Opens a server-sent event stream of the changes after an offset.
+     * Every change is sent as a {@value #CREATED} event whose id is its sequence number, so a client that
+     * reconnects with the {@code Last-Event-ID} header resumes where it stopped.
+     *
+     * @param after the sequence number of the last change already seen, or 0 to start from the first
+     * @return the emitter of the stream
+     * @throws IllegalArgumentException    if the offset is negative
+     * @throws TooManySubscribersException if {@value #MAX_SUBSCRIBERS} streams are open
+     */
+    public SseEmitter streamChanges(long after) {
+        return streamChanges(after, new SseEmitter(STREAM_TIMEOUT.toMillis()));
+    }
+
+    SseEmitter streamChanges(long after, SseEmitter emitter) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + after);
+        }
+        if (subscribers.size() >= MAX_SUBSCRIBERS) {
+            throw new TooManySubscribersException("Too many open change streams, try again later");
+        }
+        Subscriber subscriber = new Subscriber(emitter, after);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+        wakeUpNotifier();
+        return emitter;
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        wakeUpNotifier();
+        try {
+            notifier.join(CLOSE_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        subscribers.forEach(this::drop);
+        senders.shutdown();
+        try {
+            senders.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void wakeUpNotifier() {
+        notifierLock.lock();
+        try {
+            pending = true;
+            wakeUp.signal();
+        } finally {
+            notifierLock.unlock();
+        }
+    }
+
+    private void runNotifier() {
+        long nextHeartbeat = System.nanoTime() + HEARTBEAT_INTERVAL.toNanos();
+        while (running) {
+            boolean behind;
+            try {
+                behind = sendChanges();
+            } catch (RuntimeException e) {
+                log.warn("Failed to send employee changes", e);
+                behind = false;
+            }
+            dropStalledSubscribers();
+            if (System.nanoTime() - nextHeartbeat >= 0) {
+                // Writing while idle is what detects clients that went away
+                Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.outbox.isEmpty()) {
+                        enqueue(subscriber, heartbeat);
+                    }
+                }
+                nextHeartbeat = System.nanoTime() + HEARTBEAT_INTERVAL.toNanos();
+            }
+            // A subscriber that is still behind gets its next batch without waiting for another commit, and
+            // stalled writes are checked at least once per send timeout
+            long timeoutNanos = Math.min(nextHeartbeat - System.nanoTime(), sendTimeoutNanos);
+            if (!behind && !awaitWakeUp(timeoutNanos)) {
+                return;
+            }
+        }
+    }
+
+    private boolean awaitWakeUp(long timeoutNanos) {
+        notifierLock.lock();
+        try {
+            long remainingNanos = timeoutNanos;
+            while (!pending && running && remainingNanos > 0) {
+                remainingNanos = wakeUp.awaitNanos(remainingNanos);
+            }
+            pending = false;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            notifierLock.unlock();
+        }
+    }
+
+    /**
+     * Queues the next batch of changes for every subscriber that is behind and has room in its queue.
+     *
+     * @return {@code true} if a full batch was queued, so more changes may be waiting
+     */
+    private boolean sendChanges() {
+        Map<Long, List<Subscriber>> subscribersBySequence = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.outbox.remainingCapacity() == 0) {
+                // Its sender wakes the notifier again once a batch has been written
+                continue;
+            }
+            subscribersBySequence.computeIfAbsent(subscriber.sequence, sequence -> new ArrayList<>()).add(subscriber);
+        }
+        boolean behind = false;
+        for (Map.Entry<Long, List<Subscriber>> entry : subscribersBySequence.entrySet()) {
+            try {
+                behind |= sendChanges(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                // Closing the streams that cannot be served keeps them from failing every later round too
+                log.warn("Failed to send the changes after sequence {}, closing {} streams",
+                        entry.getKey(), entry.getValue().size(), e);
+                entry.getValue().forEach(this::drop);
+            }
+        }
+        return behind;
+    }
+
+    private boolean sendChanges(long sequence, List<Subscriber> atSequence) {
+        List<Employee> created = employeeRepository.findCreatedAfter(sequence, MAX_BATCH_SIZE);
+        if (created.isEmpty()) {
+            return false;
+        }
+        // The whole batch is written and flushed at once, by each subscriber's sender
+        Set<ResponseBodyEmitter.DataWithMediaType> events = new LinkedHashSet<>();
+        long eventSequence = sequence;
+        for (Employee employee : created) {
+            eventSequence++;
+            events.addAll(SseEmitter.event()
+                    .id(Long.toString(eventSequence))
+                    .name(CREATED)
+                    .data(toChange(eventSequence, employee))
+                    .build());
+        }
+        boolean full = created.size() == MAX_BATCH_SIZE;
+        for (Subscriber subscriber : atSequence) {
+            subscriber.sequence = eventSequence;
+            subscriber.behind = full;
+            enqueue(subscriber, events);
+        }
+        return full;
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> events) {
+        // Only the notifier queues, and it checked for room, so a full queue only turns away heartbeats
+        if (subscriber.outbox.offer(events)) {
+            scheduleSender(subscriber);
+        }
+    }
+
+    private void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending && now - subscriber.sendStartedNanos > sendTimeoutNanos) {
+                log.debug("Change stream stalled after sequence {}, dropping it", subscriber.sequence);
+                drop(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Stops feeding a subscriber and completes its stream. Completing waits for a write in progress to return, so
+     * while a sender is writing to the stream it is left to that sender.
+     */
+    private void drop(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        subscriber.outbox.clear();
+    }
+
+    private void scheduleSender(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes a subscriber's queued batches until its queue is empty. At most one sender drains a queue at a time.
+     */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            if (subscriber.closed) {
+                // Left claimed, so no sender is scheduled for this subscriber again
+                subscriber.emitter.complete();
+                return;
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> events = subscriber.outbox.poll();
+            if (events == null) {
+                subscriber.draining.set(false);
+                // A batch queued, or a drop, after the poll found the queue still claimed, so check again
+                if (subscriber.outbox.isEmpty() && !subscriber.closed
+                        || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (!send(subscriber, events)) {
+                return;
+            }
+            if (subscriber.behind) {
+                wakeUpNotifier();
+            }
+        }
+    }
+
+    private boolean send(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> events) {
+        subscriber.sendStartedNanos = System.nanoTime();
+        subscriber.sending = true;
+        try {
+            subscriber.emitter.send(events);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Change stream closed after sequence {}: {}", subscriber.sequence, e.getMessage());
+            unsubscribe(subscriber);
+            return false;
+        } finally {
+            subscriber.sending = false;
+        }
+    }
+
+    private EmployeeChangeDto toChange(long sequence, Employee employee) {
+        return EmployeeChangeDto.builder()
+                .sequence(sequence)
+                .type(CREATED)
+                .employee(employeeJsonCache.get(employee))
+                .build();
+    }
+
+    /**
+     * An open stream, the batches queued for it and the sequence number of the last change queued, which only the
+     * notifier updates.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> outbox =
+                new ArrayBlockingQueue<>(MAX_QUEUED_BATCHES);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private long sequence;
+        private volatile boolean behind;
+        private volatile boolean closed;
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(SseEmitter emitter, long sequence) {
+            this.emitter = emitter;
+            this.sequence = sequence;
+        }
+    }
+}
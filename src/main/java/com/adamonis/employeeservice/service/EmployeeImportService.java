@@ -0,0 +1,145 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.dto.BulkImportResponseDto;
+import com.adamonis.employeeservice.dto.BulkImportRowResultDto;
+import com.adamonis.employeeservice.dto.EmployeeRequestDto;
+import com.adamonis.employeeservice.exception.FileAccessException;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service importing employees in bulk from a streamed request body.
+ * The body is either a JSON array of employees or newline-delimited JSON with one employee per line.
+ * Rows are parsed one at a time, validated, and persisted in batches that each take one block of IDs
+ * and one write to the log, so the body is never buffered in full.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final StorageProperties storageProperties;
+    private final EmployeeSearchCacheEvictor searchCacheEvictor;
+    private final EmployeeJsonCache employeeJsonCache;
+
+    public BulkImportResponseDto importEmployees(InputStream body) {
+        ImportBatch batch = new ImportBatch();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                importRow(parser, batch);
+                token = parser.nextToken();
+            }
+        } catch (JsonParseException e) {
+            batch.reject(Map.of("body", "Malformed JSON: " + e.getOriginalMessage()));
+        } catch (IOException e) {
+            throw new FileAccessException("Error reading import data", e);
+        }
+        batch.flush();
+
+        return BulkImportResponseDto.builder()
+                .created(batch.created)
+                .failed(batch.rows.size() - batch.created)
+                .rows(batch.rows)
+                .build();
+    }
+
+    private void importRow(JsonParser parser, ImportBatch batch) throws IOException {
+        // Reading the row as a tree first consumes it completely, so a row that fails to bind leaves the parser
+        // at the start of the next row; only malformed JSON aborts the import
+        JsonNode row = objectMapper.readTree(parser);
+        EmployeeRequestDto employeeRequestDto;
+        try {
+            employeeRequestDto = objectMapper.treeToValue(row, EmployeeRequestDto.class);
+        } catch (JsonProcessingException e) {
+            batch.reject(Map.of("row", e.getOriginalMessage()));
+            return;
+        }
+        if (employeeRequestDto == null) {
+            batch.reject(Map.of("row", "Employee cannot be null"));
+            return;
+        }
+
+        Map<String, String> errors = validator.validate(employeeRequestDto).stream()
+                .collect(Collectors.toMap(
+                        violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage,
+                        (first, second) -> first
+                ));
+        if (errors.isEmpty()) {
+            batch.accept(employeeMapper.mapEmployeeRequestDtoToEmployee(employeeRequestDto));
+        } else {
+            batch.reject(errors);
+        }
+    }
+
+    /**
+     * Row outcomes of one import and the valid employees waiting to be persisted.
+     */
+    private final class ImportBatch {
+        private final List<BulkImportRowResultDto> rows = new ArrayList<>();
+        private final List<Employee> pendingEmployees = new ArrayList<>();
+        private final List<Integer> pendingRows = new ArrayList<>();
+        private int created;
+
+        private void accept(Employee employee) {
+            pendingRows.add(rows.size());
+            rows.add(null);
+            pendingEmployees.add(employee);
+            if (pendingEmployees.size() >= storageProperties.getImportBatchSize()) {
+                flush();
+            }
+        }
+
+        private void reject(Map<String, String> errors) {
+            rows.add(BulkImportRowResultDto.builder()
+                    .index(rows.size())
+                    .errors(errors)
+                    .build());
+        }
+
+        private void flush() {
+            if (pendingEmployees.isEmpty()) {
+                return;
+            }
+            long firstId = employeeRepository.createAll(pendingEmployees);
+            searchCacheEvictor.evictAffectedSearches(pendingEmployees);
+            pendingEmployees.forEach(employeeJsonCache::get);
+            for (int i = 0; i < pendingRows.size(); i++) {
+                int index = pendingRows.get(i);
+                rows.set(index, BulkImportRowResultDto.builder()
+                        .index(index)
+                        .id(firstId + i)
+                        .build());
+            }
+            created += pendingEmployees.size();
+            pendingEmployees.clear();
+            pendingRows.clear();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.storage.TableLayout;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of the API representation of every employee, both as a response DTO and as its encoded JSON.
+ * Employees never change once created, so each one is mapped and encoded once, when it is created or first read,
+ * and every later response hands out the same DTO instance, whose cached bytes
+ * {@link PrecomputedEmployeeSerializer} copies straight into the output instead of serializing its fields again.
+ * Entries are indexed by the version of the employee, which follows its position in the repository, and held in
+ * fixed-size chunks so the cache grows without copying entries. The cache holds at most a configured number of
+ * employees, the first ones created. Employees beyond that bound, and every employee when the cache is disabled,
+ * are mapped anew on every read and their DTOs serialized normally.
+ */
+@Component
+public class EmployeeJsonCache {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectWriter writer;
+    private final long capacity;
+    private final ReentrantLock growLock = new ReentrantLock();
+    private volatile AtomicReferenceArray<Entry>[] chunks = newChunks(0);
+
+    public EmployeeJsonCache(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                             ObjectMapper objectMapper, SearchProperties searchProperties,
+                             StorageProperties storageProperties) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.writer = objectMapper.writerFor(EmployeeResponseDto.class);
+        Boolean precomputedJson = searchProperties.getPrecomputedJson();
+        boolean enabled = precomputedJson != null
+                ? precomputedJson
+                : storageProperties.getTableLayout() == TableLayout.HEAP;
+        this.capacity = enabled ? Math.max(0, searchProperties.getPrecomputedJsonMaxEmployees()) : 0;
+    }
+
+    /**
+     * Returns the number of employees the cache holds at most.
+     *
+     * @return the number of the first created employees that are cached once read, 0 if the cache is disabled
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the response DTO of an employee, mapping and encoding it if it is not cached yet.
+     *
+     * @param employee a created employee
+     * @return the cached DTO of the employee
+     */
+    public EmployeeResponseDto get(Employee employee) {
+        OptionalLong version = capacity > 0 ? employeeRepository.findVersionById(employee.getId()) : OptionalLong.empty();
+        if (version.isEmpty() || version.getAsLong() > capacity) {
+            return employeeMapper.mapEmployeeToEmployeeResponseDto(employee);
+        }
+        int index = (int) (version.getAsLong() - 1);
+        AtomicReferenceArray<Entry> chunk = chunk(index);
+        Entry entry = chunk.get(index & CHUNK_MASK);
+        if (entry == null) {
+            EmployeeResponseDto dto = employeeMapper.mapEmployeeToEmployeeResponseDto(employee);
+            entry = new Entry(dto, encode(dto));
+            // Of two threads encoding the same employee, both hand out the entry that was stored first
+            if (!chunk.compareAndSet(index & CHUNK_MASK, null, entry)) {
+                entry = chunk.get(index & CHUNK_MASK);
+            }
+        }
+        return entry.dto();
+    }
+
+    /**
+     * Returns the encoded JSON of a DTO handed out by {@link #get}.
+     *
+     * @param dto the DTO to serialize
+     * @return the encoded JSON, or null if the DTO is not the cached instance of its employee
+     */
+    SerializableString encoded(EmployeeResponseDto dto) {
+        if (capacity == 0 || dto.id() == null) {
+            return null;
+        }
+        OptionalLong version = employeeRepository.findVersionById(dto.id());
+        if (version.isEmpty()) {
+            return null;
+        }
+        int index = (int) (version.getAsLong() - 1);
+        AtomicReferenceArray<Entry>[] current = chunks;
+        if (index >>> CHUNK_BITS >= current.length) {
+            return null;
+        }
+        Entry entry = current[index >>> CHUNK_BITS].get(index & CHUNK_MASK);
+        // A DTO built elsewhere may carry the same ID with different content, so only the cached instance matches
+        return entry != null && entry.dto() == dto ? entry.json() : null;
+    }
+
+    private SerializableString encode(EmployeeResponseDto dto) {
+        try {
+            SerializedString json = new SerializedString(writer.writeValueAsString(dto));
+            // Encodes the UTF-8 bytes now rather than on the first response
+            json.asUnquotedUTF8();
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AtomicReferenceArray<Entry> chunk(int index) {
+        int chunkIndex = index >>> CHUNK_BITS;
+        AtomicReferenceArray<Entry>[] current = chunks;
+        if (chunkIndex < current.length) {
+            return current[chunkIndex];
+        }
+        growLock.lock();
+        try {
+            current = chunks;
+            if (chunkIndex >= current.length) {
+                AtomicReferenceArray<Entry>[] grown = Arrays.copyOf(current, Math.max(chunkIndex + 1, current.length * 2));
+                for (int i = current.length; i < grown.length; i++) {
+                    grown[i] = new AtomicReferenceArray<>(CHUNK_SIZE);
+                }
+                chunks = grown;
+                current = grown;
+            }
+            return current[chunkIndex];
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReferenceArray<Entry>[] newChunks(int length) {
+        return (AtomicReferenceArray<Entry>[]) new AtomicReferenceArray[length];
+    }
+
+    private record Entry(EmployeeResponseDto dto, SerializableString json) {
+    }
+}
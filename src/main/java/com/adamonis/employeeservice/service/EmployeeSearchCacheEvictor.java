@@ -0,0 +1,79 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.CacheConfig;
+import com.adamonis.employeeservice.config.LoadTrackingCaffeineCache;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
+import com.adamonis.employeeservice.model.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Evicts the cached search pages that newly created employees would change.
+ * New employees always receive IDs above all existing ones, so they can only extend the last page of a search;
+ * a page is evicted only if it is a last page and its criteria may match one of the new employees.
+ * Any other page stays cached until it expires. Searches still loading when the employees are created may have
+ * missed them, so their pages are evicted as soon as they are stored.
+ * Checking every cached page against every employee of a large batch, such as an import, would cost more than
+ * loading the searches again, so such batches clear the whole cache instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeSearchCacheEvictor {
+
+    /**
+     * The largest number of created employees that cached pages are checked against one by one.
+     */
+    static final int MAX_CHECKED_EMPLOYEES = 100;
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Evicts the cached search pages affected by the given employees.
+     * Must be called once the employees are visible to searches.
+     *
+     * @param employees the created employees
+     */
+    public void evictAffectedSearches(List<Employee> employees) {
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (employees.size() > MAX_CHECKED_EMPLOYEES) {
+            if (cache instanceof LoadTrackingCaffeineCache loadTrackingCache) {
+                loadTrackingCache.markLoadsStale(key -> true);
+            }
+            cache.clear();
+            return;
+        }
+        if (cache instanceof LoadTrackingCaffeineCache loadTrackingCache) {
+            // Marked before the stored pages are evicted, so no page stored in between is missed
+            loadTrackingCache.markLoadsStale(key -> isAffected(key, null, employees));
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().entrySet().removeIf(entry -> isAffected(entry.getKey(), entry.getValue(), employees));
+        } else {
+            cache.clear();
+        }
+    }
+
+    private static boolean isAffected(Object key, Object value, List<Employee> employees) {
+        if (!(key instanceof EmployeeSearchQuery query)) {
+            return true;
+        }
+        if (value instanceof EmployeePageDto page && page.nextCursor() != null) {
+            return false;
+        }
+        Predicate<Employee> mayMatch = query.criteria().mayMatch();
+        for (Employee employee : employees) {
+            if (mayMatch.test(employee)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
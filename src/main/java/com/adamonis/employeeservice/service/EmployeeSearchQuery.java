@@ -0,0 +1,18 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+
+/**
+ * One page request of an employee search.
+ * It is also the key of the cached page, which lets cached pages be matched against newly created employees.
+ *
+ * @param criteria the search criteria
+ * @param cursor   the cursor returned with the previous page, or null for the first page
+ * @param limit    the maximum number of employees on the page, or null for all of them
+ */
+public record EmployeeSearchQuery(
+        EmployeeSearchCriteria criteria,
+        String cursor,
+        Integer limit
+) {
+}
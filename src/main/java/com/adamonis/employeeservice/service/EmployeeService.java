@@ -1,18 +1,26 @@
 package com.adamonis.employeeservice.service;
 
+import com.adamonis.employeeservice.config.CacheConfig;
+import com.adamonis.employeeservice.dto.EmployeeBatchResponseDto;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
 import com.adamonis.employeeservice.dto.EmployeeRequestDto;
 import com.adamonis.employeeservice.dto.EmployeeResponseDto;
 import com.adamonis.employeeservice.dto.NewEmployeeResponseDto;
 import com.adamonis.employeeservice.exception.EmployeeNotFoundException;
 import com.adamonis.employeeservice.mapper.EmployeeMapper;
 import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.DataVersion;
 import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,11 +29,15 @@ public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeSearchCacheEvictor searchCacheEvictor;
+    private final EmployeeJsonCache employeeJsonCache;
 
     public NewEmployeeResponseDto createEmployee(EmployeeRequestDto employeeRequestDto) {
         Employee employee = employeeMapper.mapEmployeeRequestDtoToEmployee(employeeRequestDto);
 
         long createdEmployeeId = employeeRepository.create(employee);
+        searchCacheEvictor.evictAffectedSearches(List.of(employee));
+        employeeJsonCache.get(employee);
 
         return NewEmployeeResponseDto.builder()
                 .id(createdEmployeeId)
@@ -33,21 +45,74 @@ public class EmployeeService {
     }
 
     public EmployeeResponseDto getEmployeeById(Long id) {
-        return employeeRepository.findFirstByPredicate((e -> e.getId().equals(id)))
-                .map(employeeMapper::mapEmployeeToEmployeeResponseDto)
+        return employeeRepository.findById(id)
+                .map(employeeJsonCache::get)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee with ID " + id + " not found"));
     }
 
-    @Cacheable(value = "employees", key = "#name + #fromSalary + #toSalary", cacheManager = "cacheManager")
-    public List<EmployeeResponseDto> searchEmployees(String name, BigDecimal fromSalary, BigDecimal toSalary) {
-        return employeeRepository.findByPredicate((e ->
-                        searchPredicate(name, fromSalary, toSalary, e))).stream()
-                .map(employeeMapper::mapEmployeeToEmployeeResponseDto)
+    public long getEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee with ID " + id + " not found"));
+    }
+
+    public DataVersion getDataVersion() {
+        return employeeRepository.dataVersion();
+    }
+
+    public EmployeeBatchResponseDto getEmployeesByIds(List<Long> ids) {
+        Map<Long, Employee> employees = employeeRepository.findAllById(ids);
+
+        List<Long> missingIds = ids.stream()
+                .distinct()
+                .filter(id -> !employees.containsKey(id))
                 .collect(Collectors.toList());
+        return EmployeeBatchResponseDto.builder()
+                .employees(employees.values().stream()
+                        .map(employeeJsonCache::get)
+                        .collect(Collectors.toList()))
+                .missingIds(missingIds)
+                .build();
+    }
+
+    @Cacheable(value = CacheConfig.EMPLOYEES_CACHE, cacheManager = "cacheManager", sync = true)
+    public EmployeePageDto searchEmployees(EmployeeSearchQuery query) {
+        // Read before searching, so the page contains at least the employees of this version
+        DataVersion dataVersion = employeeRepository.dataVersion();
+        Integer limit = query.limit();
+        long afterId = query.cursor() == null ? 0 : decodeCursor(query.cursor());
+        int pageSize = limit == null ? Integer.MAX_VALUE : limit;
+        // One extra employee is fetched to find out whether another page follows
+        int fetchSize = limit == null ? Integer.MAX_VALUE : limit + 1;
+        List<Employee> employees = employeeRepository.findByCriteria(query.criteria(), afterId, fetchSize);
+
+        String nextCursor = null;
+        if (employees.size() > pageSize) {
+            employees = employees.subList(0, pageSize);
+            nextCursor = encodeCursor(employees.get(pageSize - 1).getId());
+        }
+        return EmployeePageDto.builder()
+                .employees(employees.stream()
+                        .map(employeeJsonCache::get)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .dataVersion(dataVersion)
+                .build();
+    }
+
+    public void streamEmployees(EmployeeSearchCriteria criteria, Consumer<EmployeeResponseDto> consumer) {
+        employeeRepository.findByCriteria(criteria, employee ->
+                consumer.accept(employeeJsonCache.get(employee)));
+    }
+
+    private static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
     }
 
-    private static boolean searchPredicate(String name, BigDecimal fromSalary, BigDecimal toSalary, Employee employee) {
-        return (employee.getFirstName().contains(name) || employee.getLastName().contains(name)) &&
-                (employee.getSalary().compareTo(fromSalary) >= 0 && employee.getSalary().compareTo(toSalary) <= 0);
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.dto.EmployeeStatisticsDto;
+import com.adamonis.employeeservice.dto.EmployeeStatisticsReportDto;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.index.EmployeeStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Service reporting headcount, salary and tenure statistics per department.
+ * The figures come from aggregates the repository maintains as employees are created, so a report costs the same
+ * regardless of the number of employees.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeStatisticsService {
+
+    private static final int SCALE = 2;
+    private static final double DAYS_PER_YEAR = 365.2425;
+
+    private final EmployeeRepository employeeRepository;
+
+    public EmployeeStatisticsReportDto getStatistics() {
+        LocalDate today = LocalDate.now();
+        Map<Department, EmployeeStatisticsDto> departments = new EnumMap<>(Department.class);
+        for (Department department : Department.values()) {
+            departments.put(department, toDto(employeeRepository.statistics(department), today));
+        }
+        return EmployeeStatisticsReportDto.builder()
+                .total(toDto(employeeRepository.statistics(null), today))
+                .departments(departments)
+                .build();
+    }
+
+    private static EmployeeStatisticsDto toDto(EmployeeStatistics statistics, LocalDate today) {
+        EmployeeStatisticsDto.EmployeeStatisticsDtoBuilder builder = EmployeeStatisticsDto.builder()
+                .headcount(statistics.headcount())
+                .salarySum(statistics.salarySum())
+                .minSalary(statistics.minSalary())
+                .maxSalary(statistics.maxSalary())
+                .earliestJoinDate(statistics.earliestJoinDate())
+                .latestJoinDate(statistics.latestJoinDate());
+        if (statistics.headcount() > 0) {
+            builder.averageSalary(statistics.salarySum()
+                            .divide(BigDecimal.valueOf(statistics.headcount()), SCALE, RoundingMode.HALF_UP))
+                    .medianSalary(quantile(statistics, 0.5))
+                    .salaryP90(quantile(statistics, 0.9))
+                    .salaryP99(quantile(statistics, 0.99));
+        }
+        if (statistics.joinDateCount() > 0) {
+            double averageJoinEpochDay = (double) statistics.joinEpochDaySum() / statistics.joinDateCount();
+            builder.averageTenureYears(BigDecimal.valueOf((today.toEpochDay() - averageJoinEpochDay) / DAYS_PER_YEAR)
+                    .setScale(SCALE, RoundingMode.HALF_UP));
+        }
+        return builder.build();
+    }
+
+    private static BigDecimal quantile(EmployeeStatistics statistics, double quantile) {
+        return BigDecimal.valueOf(statistics.salaries().quantile(quantile)).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
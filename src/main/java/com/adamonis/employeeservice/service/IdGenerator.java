@@ -1,28 +1,74 @@
 package com.adamonis.employeeservice.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.SneakyThrows;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * A class that generates unique IDs based on a file that stores the last used ID.
+ * A class that generates unique IDs using hi/lo block allocation.
+ * A block of IDs is reserved with a single write of its upper bound to a file, and IDs within the block are
+ * handed out lock-free. After a restart generation resumes above the last reserved block, so IDs left unused
+ * in that block are skipped rather than reused.
  */
 public class IdGenerator {
 
+    private static final int DEFAULT_BLOCK_SIZE = 1000;
+
     private final String idFilePath;
+    private final int blockSize;
     private final AtomicLong currentId;
+    private final Timer reservationTimer;
+    private final ReentrantLock reservationLock = new ReentrantLock();
+    private volatile long reservedUpTo;
 
     /**
-     * Constructs an IdGenerator with the given file path for storing the last used ID.
+     * Constructs an IdGenerator with the given file path for storing the upper bound of the reserved IDs.
      *
-     * @param idFilePath the path to the file that stores the last used ID
+     * @param idFilePath the path to the file that stores the upper bound of the reserved IDs
      */
     public IdGenerator(String idFilePath) {
+        this(idFilePath, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs an IdGenerator with the given file path and block size.
+     *
+     * @param idFilePath the path to the file that stores the upper bound of the reserved IDs
+     * @param blockSize  the number of IDs reserved by a single file write
+     */
+    public IdGenerator(String idFilePath, int blockSize) {
+        this(idFilePath, blockSize, Metrics.globalRegistry);
+    }
+
+    /**
+     * Constructs an IdGenerator with the given file path and block size, timing block reservations.
+     *
+     * @param idFilePath    the path to the file that stores the upper bound of the reserved IDs
+     * @param blockSize     the number of IDs reserved by a single file write
+     * @param meterRegistry the registry of the reservation timer
+     */
+    public IdGenerator(String idFilePath, int blockSize, MeterRegistry meterRegistry) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
         this.idFilePath = idFilePath;
-        this.currentId = new AtomicLong(loadLastId());
+        this.blockSize = blockSize;
+        this.reservedUpTo = loadLastId();
+        this.currentId = new AtomicLong(reservedUpTo);
+        this.reservationTimer = Timer.builder("employee.id.reservation")
+                .description("Time to reserve a block of IDs, including the durable write of its upper bound")
+                .register(meterRegistry);
     }
 
     @SneakyThrows
@@ -38,17 +84,51 @@ public class IdGenerator {
 
     @SneakyThrows
     private void saveCurrentId(long id) {
-        Files.write(Paths.get(idFilePath), String.valueOf(id).getBytes());
+        Path idFile = Paths.get(idFilePath);
+        Path tempFile = idFile.resolveSibling(idFile.getFileName() + ".tmp");
+        Files.write(tempFile, String.valueOf(id).getBytes(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(tempFile, idFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
     /**
-     * Retrieves the next unique ID, increments the current ID, and saves it to the file.
+     * Retrieves the next unique ID, reserving a new block of IDs in the file when the current one is used up.
      *
      * @return the next unique ID
      */
-    public synchronized long getNextId() {
-        long id = currentId.incrementAndGet();
-        saveCurrentId(id);
-        return id;
+    public long getNextId() {
+        return getNextIds(1);
+    }
+
+    /**
+     * Retrieves a range of consecutive unique IDs, reserving a new block of IDs in the file if needed.
+     *
+     * @param count the number of IDs to retrieve
+     * @return the first ID of the range; the range ends at {@code firstId + count - 1}
+     */
+    public long getNextIds(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("ID count must be positive: " + count);
+        }
+        long lastId = currentId.addAndGet(count);
+        if (lastId > reservedUpTo) {
+            reserveThrough(lastId);
+        }
+        return lastId - count + 1;
+    }
+
+    private void reserveThrough(long id) {
+        reservationLock.lock();
+        try {
+            if (id > reservedUpTo) {
+                long startNanos = System.nanoTime();
+                long upperBound = id + blockSize - 1;
+                saveCurrentId(upperBound);
+                reservedUpTo = upperBound;
+                reservationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            reservationLock.unlock();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Serializer of {@link EmployeeResponseDto} that writes the JSON cached by {@link EmployeeJsonCache} as a raw
+ * value, copying its bytes into the output buffer. Any other DTO is handed to the regular bean serializer, which
+ * also produces the cached JSON in the first place, so both paths write the same representation.
+ */
+public class PrecomputedEmployeeSerializer extends StdSerializer<EmployeeResponseDto>
+        implements ResolvableSerializer, ContextualSerializer {
+
+    private final JsonSerializer<Object> delegate;
+    private final Supplier<EmployeeJsonCache> cache;
+
+    @SuppressWarnings("unchecked")
+    private PrecomputedEmployeeSerializer(JsonSerializer<?> delegate, Supplier<EmployeeJsonCache> cache) {
+        super(EmployeeResponseDto.class);
+        this.delegate = (JsonSerializer<Object>) delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * Creates the module that puts this serializer in front of the bean serializer of {@link EmployeeResponseDto}.
+     *
+     * @param cache supplies the cache; it is called on the first serialization, so the cache may itself depend on
+     *              the object mapper the module is registered with
+     * @return the module
+     */
+    public static Module module(Supplier<EmployeeJsonCache> cache) {
+        SimpleModule module = new SimpleModule("precomputed-employee-json");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                return beanDesc.getBeanClass() == EmployeeResponseDto.class
+                        ? new PrecomputedEmployeeSerializer(serializer, cache)
+                        : serializer;
+            }
+        });
+        return module;
+    }
+
+    @Override
+    public void serialize(EmployeeResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        SerializableString json = cache.get().encoded(value);
+        if (json != null) {
+            gen.writeRawValue(json);
+        } else {
+            delegate.serialize(value, gen, provider);
+        }
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonSerializer<?> contextual = delegate instanceof ContextualSerializer contextualSerializer
+                ? contextualSerializer.createContextual(provider, property)
+                : delegate;
+        return contextual == delegate ? this : new PrecomputedEmployeeSerializer(contextual, cache);
+    }
+}
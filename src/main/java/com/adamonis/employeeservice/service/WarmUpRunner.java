@@ -0,0 +1,179 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.WarmUpProperties;
+import com.adamonis.employeeservice.dto.EmployeeBatchResponseDto;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
+import com.adamonis.employeeservice.dto.EmployeeRequestDto;
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms the service up at startup, so the first requests after a deploy do not pay for cold code and caches.
+ * Spring Boot reports the application ready, and its readiness probe starts accepting traffic, only once every
+ * application runner has completed; the data is loaded and indexed before that, when the repository is created.
+ * The warm-up resolves the JSON serializers of the request and response types, runs the configured searches and
+ * a sample of ID lookups for a number of rounds so the JIT compiler sees the request paths, encodes the JSON of
+ * the loaded employees the {@link EmployeeJsonCache} can hold, if it is enabled, and finally puts the first page
+ * of every configured search in the search cache. Employees are read by sequence, a batch at a time, so the
+ * warm-up never holds the whole dataset on the heap.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final int LOOKUP_SAMPLE_SIZE = 100;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int NAME_QUERY_LENGTH = 3;
+    private static final int ENCODING_BATCH_SIZE = 10_000;
+
+    private final WarmUpProperties warmUpProperties;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final EmployeeJsonCache employeeJsonCache;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!warmUpProperties.isEnabled()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        warmUpSerialization();
+        long serializationNanos = System.nanoTime();
+        long loaded = employeeRepository.latestSequence();
+        int rounds = warmUpRequestPaths(loaded);
+        long roundsNanos = System.nanoTime();
+        long encoded = Math.min(loaded, employeeJsonCache.capacity());
+        encodeEmployees(encoded);
+        long encodingNanos = System.nanoTime();
+        List<EmployeeSearchQuery> cachedQueries = configuredQueries();
+        cachedQueries.forEach(employeeService::searchEmployees);
+        long endNanos = System.nanoTime();
+        log.info("Warm-up took {} ms: serializers {} ms, {} rounds of searches and lookups {} ms, "
+                        + "{} employees encoded {} ms, {} searches cached {} ms",
+                (endNanos - startNanos) / 1_000_000, (serializationNanos - startNanos) / 1_000_000,
+                rounds, (roundsNanos - serializationNanos) / 1_000_000,
+                encoded, (encodingNanos - roundsNanos) / 1_000_000,
+                cachedQueries.size(), (endNanos - encodingNanos) / 1_000_000);
+    }
+
+    private void warmUpSerialization() throws IOException {
+        EmployeeRequestDto request = EmployeeRequestDto.builder()
+                .firstName("Warm")
+                .lastName("Up")
+                .dateOfBirth(LocalDate.of(2000, 1, 1))
+                .salary(BigDecimal.ONE)
+                .joinDate(LocalDate.of(2020, 1, 1))
+                .department(Department.IT)
+                .build();
+        objectMapper.readValue(objectMapper.writeValueAsBytes(request), EmployeeRequestDto.class);
+
+        EmployeeResponseDto response = EmployeeResponseDto.builder()
+                .id(1L)
+                .firstName(request.firstName())
+                .lastName(request.lastName())
+                .dateOfBirth(request.dateOfBirth())
+                .salary(request.salary())
+                .joinDate(request.joinDate())
+                .department(request.department())
+                .build();
+        objectMapper.writeValueAsBytes(List.of(response));
+        objectMapper.writeValueAsBytes(new EmployeePageDto(List.of(response), null));
+        objectMapper.writeValueAsBytes(new EmployeeBatchResponseDto(List.of(response), List.of(2L)));
+    }
+
+    private int warmUpRequestPaths(long loaded) {
+        List<EmployeeSearchQuery> searches = new ArrayList<>(configuredQueries());
+        BigDecimal maxSalary = maxSalary();
+        // Covers the salary index path and, given a name, the name index path even when no search is configured
+        searches.add(new EmployeeSearchQuery(new EmployeeSearchCriteria("", BigDecimal.ZERO, maxSalary),
+                null, DEFAULT_PAGE_SIZE));
+        List<Employee> middle = employeeAt(loaded / 2);
+        if (!middle.isEmpty()) {
+            String lastName = middle.get(0).getLastName();
+            String name = lastName.substring(0, Math.min(NAME_QUERY_LENGTH, lastName.length()));
+            searches.add(new EmployeeSearchQuery(new EmployeeSearchCriteria(name, BigDecimal.ZERO, maxSalary),
+                    null, DEFAULT_PAGE_SIZE));
+        }
+        List<Long> sampleIds = new ArrayList<>(LOOKUP_SAMPLE_SIZE);
+        long step = Math.max(1, loaded / LOOKUP_SAMPLE_SIZE);
+        for (long position = 0; position < loaded && sampleIds.size() < LOOKUP_SAMPLE_SIZE; position += step) {
+            employeeAt(position).forEach(employee -> sampleIds.add(employee.getId()));
+        }
+
+        long deadline = System.nanoTime() + warmUpProperties.getMaxDuration().toNanos();
+        int rounds = 0;
+        while (rounds < warmUpProperties.getIterations() && System.nanoTime() - deadline < 0) {
+            // The repository is searched directly, since the service would answer from the cache after one round
+            for (EmployeeSearchQuery search : searches) {
+                employeeRepository.findByCriteria(search.criteria(), 0,
+                        search.limit() == null ? Integer.MAX_VALUE : search.limit() + 1);
+            }
+            if (!sampleIds.isEmpty()) {
+                employeeService.getEmployeesByIds(sampleIds);
+            }
+            rounds++;
+        }
+        return rounds;
+    }
+
+    private void encodeEmployees(long count) {
+        long sequence = 0;
+        while (sequence < count) {
+            List<Employee> batch = employeeRepository.findCreatedAfter(sequence,
+                    (int) Math.min(ENCODING_BATCH_SIZE, count - sequence));
+            if (batch.isEmpty()) {
+                return;
+            }
+            batch.parallelStream().forEach(employeeJsonCache::get);
+            sequence += batch.size();
+        }
+    }
+
+    private List<Employee> employeeAt(long position) {
+        // Sequences number the employees from 1 in table order, so position p is the first one created after p
+        return employeeRepository.findCreatedAfter(position, 1);
+    }
+
+    private List<EmployeeSearchQuery> configuredQueries() {
+        BigDecimal maxSalary = null;
+        List<EmployeeSearchQuery> queries = new ArrayList<>();
+        for (WarmUpProperties.Query query : warmUpProperties.getQueries()) {
+            BigDecimal toSalary = query.getToSalary();
+            if (toSalary == null) {
+                maxSalary = maxSalary == null ? maxSalary() : maxSalary;
+                toSalary = maxSalary;
+            }
+            if (query.getFromSalary().compareTo(toSalary) > 0) {
+                // Nothing can match, as when the highest salary is below the minimum on a new or small dataset
+                log.debug("Skipping warm-up search {} with a salary range from {} to {}",
+                        query.getName(), query.getFromSalary(), toSalary);
+                continue;
+            }
+            queries.add(new EmployeeSearchQuery(new EmployeeSearchCriteria(query.getName(), query.getFromSalary(),
+                    toSalary, query.getDepartment()), null, query.getLimit()));
+        }
+        return queries;
+    }
+
+    private BigDecimal maxSalary() {
+        BigDecimal maxSalary = employeeRepository.statistics(null).maxSalary();
+        return maxSalary == null ? BigDecimal.ZERO : maxSalary;
+    }
+}
@@ -0,0 +1,142 @@
+package com.adamonis.employeeservice.controller;
+
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.adamonis.employeeservice.exception.GlobalExceptionHandler;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.service.EmployeeChangeService;
+import com.adamonis.employeeservice.service.EmployeeJsonCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeControllerTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
+    private EmployeeChangeService employeeChangeService;
+
+    private Runnable createListener;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        employeeChangeService = new EmployeeChangeService(employeeRepository, employeeJsonCache);
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(employeeRepository).addCreateListener(listener.capture());
+        createListener = listener.getValue();
+        mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeChangeController(employeeChangeService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeChangeService.close();
+    }
+
+    @Test
+    void testStreamsSendEachCommittedBatchToEverySubscriber() throws Exception {
+        Employee first = Employee.builder().id(11L).firstName("Mohamed").build();
+        Employee second = Employee.builder().id(12L).firstName("Salman").build();
+        when(employeeRepository.findCreatedAfter(0, EmployeeChangeService.MAX_BATCH_SIZE)).thenReturn(List.of(first));
+        when(employeeJsonCache.get(first)).thenReturn(EmployeeResponseDto.builder().id(11L).build());
+        when(employeeJsonCache.get(second)).thenReturn(EmployeeResponseDto.builder().id(12L).build());
+
+        MockHttpServletResponse firstStream = openStream();
+        MockHttpServletResponse secondStream = openStream();
+        awaitEvent(firstStream, "id:1");
+        awaitEvent(secondStream, "id:1");
+
+        when(employeeRepository.findCreatedAfter(1, EmployeeChangeService.MAX_BATCH_SIZE)).thenReturn(List.of(second));
+        createListener.run();
+
+        awaitEvent(firstStream, "id:2");
+        awaitEvent(secondStream, "id:2");
+        assertTrue(firstStream.getContentAsString().contains("event:created"));
+        // Both streams were at the same offset, so the batch was built once for them
+        verify(employeeJsonCache, times(1)).get(second);
+    }
+
+    @Test
+    void testStreamFromNegativeLastEventIdIsRejected() throws Exception {
+        mockMvc.perform(get("/employees/changes").accept(MediaType.TEXT_EVENT_STREAM).header("Last-Event-ID", "-1"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeRepository, never()).findCreatedAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void testStreamThatCannotBeServedDoesNotStopTheOthers() throws Exception {
+        Employee first = Employee.builder().id(11L).firstName("Mohamed").build();
+        Employee second = Employee.builder().id(12L).firstName("Salman").build();
+        when(employeeRepository.findCreatedAfter(0, EmployeeChangeService.MAX_BATCH_SIZE)).thenReturn(List.of(first));
+        when(employeeRepository.findCreatedAfter(7, EmployeeChangeService.MAX_BATCH_SIZE))
+                .thenThrow(new IllegalStateException("Unreadable row"));
+        when(employeeJsonCache.get(first)).thenReturn(EmployeeResponseDto.builder().id(11L).build());
+        when(employeeJsonCache.get(second)).thenReturn(EmployeeResponseDto.builder().id(12L).build());
+
+        MockHttpServletResponse failing = mockMvc.perform(get("/employees/changes")
+                        .accept(MediaType.TEXT_EVENT_STREAM).header("Last-Event-ID", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse stream = openStream();
+        awaitEvent(stream, "id:1");
+
+        when(employeeRepository.findCreatedAfter(1, EmployeeChangeService.MAX_BATCH_SIZE)).thenReturn(List.of(second));
+        createListener.run();
+
+        awaitEvent(stream, "id:2");
+        assertFalse(failing.getContentAsString().contains("id:"));
+        // The failing stream was closed rather than retried every round
+        verify(employeeRepository, times(1)).findCreatedAfter(7, EmployeeChangeService.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    void testStreamBeyondTheLimitIsRefusedWithServiceUnavailable() throws Exception {
+        for (int i = 0; i < EmployeeChangeService.MAX_SUBSCRIBERS; i++) {
+            employeeChangeService.streamChanges(0);
+        }
+
+        mockMvc.perform(get("/employees/changes").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errors.error").value("Too many open change streams, try again later"));
+    }
+
+    private MockHttpServletResponse openStream() throws Exception {
+        return mockMvc.perform(get("/employees/changes").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static void awaitEvent(MockHttpServletResponse stream, String line) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> stream.getContentAsString().contains(line));
+    }
+}
@@ -0,0 +1,102 @@
+package com.adamonis.employeeservice.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load test creating employees from many concurrent clients against a running server.
+ * Every create waits for an fsync, so request threads spend most of their time blocked on I/O. The subclasses run
+ * the same load on the default pool of platform threads and on virtual threads, so their reports show how far
+ * each mode lets concurrency grow before requests queue for a thread.
+ * <p>
+ * Excluded from the regular build; run with {@code ./gradlew loadTest}, adding {@code -PjavaVersion=21}
+ * for the virtual-thread variant.
+ */
+@Tag("load")
+abstract class CreateEmployeeLoadTest {
+
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS = 20_000;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) throws IOException {
+        String dataDirectory = Files.createTempDirectory("employee-load-test").toString();
+        registry.add("employee-service.storage.data-directory", () -> dataDirectory);
+        registry.add("employee-service.storage.fsync-policy", () -> "always");
+    }
+
+    @Test
+    void testConcurrentCreates() throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/employees"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"firstName": "Mohamed", "lastName": "Ahmed", "dateOfBirth": "2000-01-01",
+                         "salary": 1000, "joinDate": "2023-05-18", "department": "IT"}"""))
+                .build();
+
+        Semaphore inFlight = new Semaphore(CLIENTS);
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger succeeded = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[REQUESTS];
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int index = i;
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (failure == null && response.statusCode() == 200) {
+                            succeeded.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(responses).exceptionally(failure -> null).join();
+        long elapsed = System.nanoTime() - start;
+        clientExecutor.shutdown();
+        clientExecutor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        System.out.printf("%s: %d creates from %d clients in %d ms, %.0f creates/s, latency p50 %.1f ms, "
+                        + "p99 %.1f ms, max %.1f ms%n",
+                getClass().getSimpleName(), REQUESTS, CLIENTS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                REQUESTS * 1e9 / elapsed, percentile(latencies, 0.5), percentile(latencies, 0.99),
+                latencies[REQUESTS - 1] / 1e6);
+        assertEquals(REQUESTS, succeeded.get());
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1] / 1e6;
+    }
+}
@@ -0,0 +1,11 @@
+package com.adamonis.employeeservice.load;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs the create load on Tomcat's default pool of platform request threads.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadCreateEmployeeLoadTest extends CreateEmployeeLoadTest {
+}
@@ -0,0 +1,14 @@
+package com.adamonis.employeeservice.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs the create load with a virtual thread per request, which needs a Java 21 runtime.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadCreateEmployeeLoadTest extends CreateEmployeeLoadTest {
+}
@@ -0,0 +1,582 @@
+package com.adamonis.employeeservice.repository;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.exception.FileAccessException;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.index.EmployeeStatistics;
+import com.adamonis.employeeservice.repository.storage.FsyncPolicy;
+import com.adamonis.employeeservice.repository.storage.StorageFormat;
+import com.adamonis.employeeservice.repository.storage.TableLayout;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRepositoryTest {
+
+    @TempDir
+    private Path dataDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = openRepository();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        employeeRepository.close();
+    }
+
+    @Test
+    void testCreateAssignsSequentialIds() {
+        long firstId = employeeRepository.create(createEmployee("Mohamed"));
+        long secondId = employeeRepository.create(createEmployee("Salman"));
+
+        assertEquals(firstId + 1, secondId);
+        assertEquals(List.of("Mohamed", "Salman"), firstNames(employeeRepository.findAll()));
+    }
+
+    @Test
+    void testFindById() throws IOException {
+        long firstId = employeeRepository.create(createEmployee("Mohamed"));
+        long secondId = employeeRepository.create(createEmployee("Salman"));
+
+        assertEquals("Mohamed", employeeRepository.findById(firstId).orElseThrow().getFirstName());
+        assertEquals("Salman", employeeRepository.findById(secondId).orElseThrow().getFirstName());
+        assertTrue(employeeRepository.findById(secondId + 1).isEmpty());
+
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals("Salman", employeeRepository.findById(secondId).orElseThrow().getFirstName());
+    }
+
+    @Test
+    void testFindAllById() {
+        long firstId = employeeRepository.create(createEmployee("Mohamed"));
+        long secondId = employeeRepository.create(createEmployee("Salman"));
+
+        Map<Long, Employee> employees = employeeRepository.findAllById(List.of(secondId, secondId + 1, firstId, secondId));
+
+        assertEquals(List.of(secondId, firstId), new ArrayList<>(employees.keySet()));
+        assertEquals("Salman", employees.get(secondId).getFirstName());
+        assertEquals("Mohamed", employees.get(firstId).getFirstName());
+    }
+
+    @Test
+    void testDataVersionGrowsWithEveryCreate() throws IOException {
+        DataVersion initial = employeeRepository.dataVersion();
+        long firstId = employeeRepository.create(createEmployee("Mohamed"));
+        long secondId = employeeRepository.create(createEmployee("Salman"));
+        DataVersion current = employeeRepository.dataVersion();
+
+        assertEquals(0, initial.version());
+        assertEquals(2, current.version());
+        assertFalse(current.modifiedAt().isBefore(initial.modifiedAt()));
+        assertEquals(1, employeeRepository.findVersionById(firstId).orElseThrow());
+        assertEquals(2, employeeRepository.findVersionById(secondId).orElseThrow());
+        assertTrue(employeeRepository.findVersionById(secondId + 1).isEmpty());
+
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(2, employeeRepository.dataVersion().version());
+        assertEquals(2, employeeRepository.findVersionById(secondId).orElseThrow());
+    }
+
+    @Test
+    void testFindCreatedAfterReturnsEmployeesInSequenceOrder() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.create(createEmployee("Salman"));
+        employeeRepository.create(createEmployee("Ali"));
+
+        assertEquals(3, employeeRepository.latestSequence());
+        assertEquals(List.of("Salman", "Ali"), firstNames(employeeRepository.findCreatedAfter(1, 10)));
+        assertEquals(List.of("Mohamed"), firstNames(employeeRepository.findCreatedAfter(0, 1)));
+        assertTrue(employeeRepository.findCreatedAfter(3, 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> employeeRepository.findCreatedAfter(-1, 10));
+
+        employeeRepository.compact();
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(List.of("Ali"), firstNames(employeeRepository.findCreatedAfter(2, 10)));
+    }
+
+    @Test
+    void testAwaitCreatedAfterWakesUpOnCommit() throws Exception {
+        employeeRepository.create(createEmployee("Mohamed"));
+
+        assertTrue(employeeRepository.awaitCreatedAfter(0, Duration.ZERO));
+        assertFalse(employeeRepository.awaitCreatedAfter(1, Duration.ofMillis(10)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> awaited = executor.submit(() -> employeeRepository.awaitCreatedAfter(1, Duration.ofSeconds(10)));
+            employeeRepository.create(createEmployee("Salman"));
+
+            assertTrue(awaited.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFindByCriteriaFiltersBySalaryRangeAndName() {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        employeeRepository.create(createEmployee("Salman", 2000));
+        employeeRepository.create(createEmployee("Mona", 3000));
+        employeeRepository.create(createEmployee("Moussa", 2000.5));
+
+        List<Employee> employees = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("Mo", BigDecimal.valueOf(1000), new BigDecimal("2000.50")));
+
+        assertEquals(List.of("Mohamed", "Moussa"), firstNames(employees));
+    }
+
+    @Test
+    void testFindByCriteriaWithInvertedSalaryRangeFindsNothing() {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+
+        assertTrue(employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("", BigDecimal.valueOf(2000), BigDecimal.valueOf(500))).isEmpty());
+        assertTrue(employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("", BigDecimal.valueOf(2000), BigDecimal.valueOf(500), Department.IT)).isEmpty());
+    }
+
+    @Test
+    void testFindByCriteriaFiltersByDepartment() {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        Employee salman = createEmployee("Salman", 2000);
+        salman.setDepartment(Department.HR);
+        employeeRepository.create(salman);
+        employeeRepository.create(createEmployee("Mona", 3000));
+
+        List<Employee> byName = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("Ahm", BigDecimal.ZERO, BigDecimal.valueOf(5000), Department.IT));
+        List<Employee> bySalary = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("", BigDecimal.ZERO, BigDecimal.valueOf(5000), Department.HR));
+        List<Employee> allDepartments = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("", BigDecimal.valueOf(1500), BigDecimal.valueOf(5000)));
+
+        assertEquals(List.of("Mohamed", "Mona"), firstNames(byName));
+        assertEquals(List.of("Salman"), firstNames(bySalary));
+        assertEquals(List.of("Salman", "Mona"), firstNames(allDepartments));
+    }
+
+    @Test
+    void testStatisticsAreMaintainedPerDepartment() {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        employeeRepository.create(createEmployee("Mona", 3000));
+        Employee salman = createEmployee("Salman", 2000);
+        salman.setDepartment(Department.HR);
+        salman.setJoinDate(LocalDate.of(2020, 1, 1));
+        employeeRepository.create(salman);
+
+        EmployeeStatistics it = employeeRepository.statistics(Department.IT);
+        EmployeeStatistics total = employeeRepository.statistics(null);
+
+        assertEquals(2, it.headcount());
+        assertEquals(0, BigDecimal.valueOf(4000).compareTo(it.salarySum()));
+        assertEquals(0, BigDecimal.valueOf(1000).compareTo(it.minSalary()));
+        assertEquals(0, BigDecimal.valueOf(3000).compareTo(it.maxSalary()));
+        assertEquals(3, total.headcount());
+        assertEquals(0, BigDecimal.valueOf(6000).compareTo(total.salarySum()));
+        assertEquals(0, BigDecimal.valueOf(3000).compareTo(total.maxSalary()));
+        assertEquals(LocalDate.of(2020, 1, 1), total.earliestJoinDate());
+        assertEquals(LocalDate.of(2023, 5, 18), total.latestJoinDate());
+        assertEquals(0, employeeRepository.statistics(Department.FINANCE).headcount());
+    }
+
+    @Test
+    void testOperationsAreMetered() {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        employeeRepository.create(createEmployee("Salman", 2000));
+        employeeRepository.findByCriteria(new EmployeeSearchCriteria("Ahm", BigDecimal.ZERO, BigDecimal.valueOf(1500)));
+        employeeRepository.findByPredicate(employee -> true);
+        employeeRepository.compact();
+
+        assertEquals(2, meterRegistry.get("employee.repository.commit").timer().count());
+        assertEquals(2, meterRegistry.get("employee.repository.search.candidates").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("employee.repository.search.results").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("employee.repository.scan.rows").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("employee.repository.compaction").timer().count());
+        assertEquals(1, meterRegistry.get("employee.id.reservation").timer().count());
+        assertEquals(2, meterRegistry.get("employee.storage.log.append").timer().count());
+        assertTrue(meterRegistry.get("employee.storage.log.append.size").summary().totalAmount() > 0);
+        assertEquals(1, meterRegistry.get("employee.storage.snapshot").tag("operation", "write").timer().count());
+        assertEquals(2, meterRegistry.get("employee.repository.size").gauge().value());
+    }
+
+    @Test
+    void testFindByCriteriaMatchesNameSubstringsInEitherField() {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        employeeRepository.create(createEmployee("Hamid", 1000));
+        employeeRepository.create(createEmployee("Salman", 1000));
+
+        List<Employee> employees = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("ham", BigDecimal.ZERO, BigDecimal.valueOf(5000)));
+        List<Employee> byLastName = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("hme", BigDecimal.ZERO, BigDecimal.valueOf(5000)));
+
+        assertEquals(List.of("Mohamed"), firstNames(employees));
+        assertEquals(List.of("Mohamed", "Hamid", "Salman"), firstNames(byLastName));
+    }
+
+    @Test
+    void testFindByCriteriaIgnoresCaseWhenConfigured() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        employeeRepository.create(createEmployee("Hamid", 1000));
+        employeeRepository.close();
+        employeeRepository = openRepository(true);
+
+        List<Employee> employees = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("HAM", BigDecimal.ZERO, BigDecimal.valueOf(5000)));
+        List<Employee> shortQuery = employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("h", BigDecimal.ZERO, BigDecimal.valueOf(5000)));
+
+        assertEquals(List.of("Mohamed", "Hamid"), firstNames(employees));
+        assertEquals(List.of("Mohamed", "Hamid"), firstNames(shortQuery));
+    }
+
+    @Test
+    void testFindByCriteriaPageStartsAfterIdAndStopsAtLimit() {
+        long firstId = employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.create(createEmployee("Hamid"));
+        employeeRepository.create(createEmployee("Salman"));
+        employeeRepository.create(createEmployee("Mona"));
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria("", BigDecimal.ZERO, BigDecimal.valueOf(5000));
+
+        assertEquals(List.of("Mohamed", "Hamid"), firstNames(employeeRepository.findByCriteria(criteria, 0, 2)));
+        assertEquals(List.of("Hamid", "Salman"), firstNames(employeeRepository.findByCriteria(criteria, firstId, 2)));
+        assertEquals(List.of("Mona"), firstNames(employeeRepository.findByCriteria(criteria, firstId + 2, 2)));
+    }
+
+    @Test
+    void testReopenReplaysLog() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.create(createEmployee("Salman"));
+
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(List.of("Mohamed", "Salman"), firstNames(employeeRepository.findAll()));
+    }
+
+    @Test
+    void testCompactFoldsLogIntoSnapshot() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.compact();
+        employeeRepository.create(createEmployee("Salman"));
+
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertTrue(Files.exists(dataDirectory.resolve("employees.snapshot")));
+        assertEquals(List.of("Mohamed", "Salman"), firstNames(employeeRepository.findAll()));
+    }
+
+    @Test
+    void testCompactWithLeftoverCompactingLogDoesNotOverwriteIt() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.compact();
+        employeeRepository.create(createEmployee("Salman"));
+        Path blockedSnapshot = blockSnapshotWrites();
+        assertThrows(FileAccessException.class, employeeRepository::compact);
+        assertTrue(Files.exists(dataDirectory.resolve("employees.wal.compacting")));
+
+        employeeRepository.create(createEmployee("Ali"));
+        assertThrows(FileAccessException.class, employeeRepository::compact);
+        // Restarts as after a crash, with the leftover compacting log and the current log both on disk
+        Files.delete(blockedSnapshot);
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(List.of("Mohamed", "Salman", "Ali"), firstNames(employeeRepository.findAll()));
+    }
+
+    @Test
+    void testCompactFinishesCompactionThatFailedAfterRotatingTheLog() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.compact();
+        employeeRepository.create(createEmployee("Salman"));
+        Path blockedSnapshot = blockSnapshotWrites();
+        assertThrows(FileAccessException.class, employeeRepository::compact);
+        Files.delete(blockedSnapshot);
+
+        employeeRepository.create(createEmployee("Ali"));
+        employeeRepository.compact();
+
+        assertFalse(Files.exists(dataDirectory.resolve("employees.wal.compacting")));
+        employeeRepository.close();
+        employeeRepository = openRepository();
+        assertEquals(List.of("Mohamed", "Salman", "Ali"), firstNames(employeeRepository.findAll()));
+    }
+
+    @Test
+    void testSnapshotLoadedInParallelKeepsItsOrderAndIndexes() throws IOException {
+        // Spans several decode chunks of the snapshot and every share of the name index
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            employees.add(createEmployee("Employee" + i, 1000 + i));
+        }
+        employeeRepository.createAll(employees);
+        employeeRepository.compact();
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        List<Employee> loaded = employeeRepository.findAll();
+        assertEquals(10_000, loaded.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            assertEquals("Employee" + i, loaded.get(i).getFirstName());
+        }
+        assertEquals(List.of("Employee5000"), firstNames(employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("", BigDecimal.valueOf(6000), BigDecimal.valueOf(6000)))));
+        assertEquals(List.of("Employee9999"), firstNames(employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("Employee9999", BigDecimal.ZERO, BigDecimal.valueOf(20_000)))));
+    }
+
+    @Test
+    void testTornLogTailIsDiscarded() throws IOException {
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.close();
+        Files.write(dataDirectory.resolve("employees.wal"), new byte[]{0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        employeeRepository = openRepository();
+        employeeRepository.create(createEmployee("Salman"));
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(List.of("Mohamed", "Salman"), firstNames(employeeRepository.findAll()));
+    }
+
+    @Test
+    void testParallelWritersLoseNoInserts() throws Exception {
+        int writers = 16;
+        int createsPerWriter = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            String firstName = "Writer" + writer;
+            results.add(executor.submit(() -> {
+                start.await();
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < createsPerWriter; i++) {
+                    ids.add(employeeRepository.create(createEmployee(firstName)));
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> result : results) {
+            ids.addAll(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(writers * createsPerWriter, ids.size());
+        assertEquals(writers * createsPerWriter, employeeRepository.findAll().size());
+        for (Long id : ids) {
+            assertEquals(id, employeeRepository.findById(id).orElseThrow().getId());
+        }
+
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(writers * createsPerWriter, employeeRepository.findAll().size());
+    }
+
+    @Test
+    void testConcurrentBatchesKeepConsecutiveIds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Long>> firstIds = new ArrayList<>();
+        for (int batch = 0; batch < 4; batch++) {
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                employees.add(createEmployee("Batch" + batch));
+            }
+            firstIds.add(executor.submit(() -> employeeRepository.createAll(employees)));
+        }
+        for (int batch = 0; batch < 4; batch++) {
+            long firstId = firstIds.get(batch).get(30, TimeUnit.SECONDS);
+            for (int i = 0; i < 100; i++) {
+                assertEquals("Batch" + batch, employeeRepository.findById(firstId + i).orElseThrow().getFirstName());
+            }
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testCreateAfterCloseIsRejected() throws IOException {
+        employeeRepository.close();
+
+        assertThrows(IllegalStateException.class, () -> employeeRepository.create(createEmployee("Mohamed")));
+    }
+
+    @Test
+    void testSwitchingFormatKeepsDataAndMigratesOnCompaction() throws IOException {
+        employeeRepository.close();
+        employeeRepository = openRepository(StorageFormat.JSON);
+        employeeRepository.create(createEmployee("Mohamed"));
+        employeeRepository.compact();
+        employeeRepository.create(createEmployee("Salman"));
+        employeeRepository.close();
+        assertTrue(Files.exists(dataDirectory.resolve("employees.json")));
+
+        employeeRepository = openRepository(StorageFormat.BINARY);
+        assertEquals(List.of("Mohamed", "Salman"), firstNames(employeeRepository.findAll()));
+        employeeRepository.create(createEmployee("Ali"));
+        employeeRepository.compact();
+        employeeRepository.close();
+        employeeRepository = openRepository(StorageFormat.BINARY);
+
+        assertEquals(List.of("Mohamed", "Salman", "Ali"), firstNames(employeeRepository.findAll()));
+        assertTrue(Files.exists(dataDirectory.resolve("employees.snapshot")));
+        assertFalse(Files.exists(dataDirectory.resolve("employees.json")));
+    }
+
+    @Test
+    void testMappedTableLayoutAnswersQueries() throws IOException {
+        assertTableLayoutAnswersQueries(TableLayout.MAPPED);
+    }
+
+    @Test
+    void testColumnarTableLayoutAnswersQueries() throws IOException {
+        assertTableLayoutAnswersQueries(TableLayout.COLUMNAR);
+    }
+
+    private void assertTableLayoutAnswersQueries(TableLayout tableLayout) throws IOException {
+        employeeRepository.create(createEmployee("Mohamed", 1000));
+        employeeRepository.close();
+        employeeRepository = openRepository(tableLayout);
+        long salmanId = employeeRepository.create(createEmployee("Salman", 2000));
+        employeeRepository.create(createEmployee("Ali", 3000));
+
+        assertEquals("Salman", employeeRepository.findById(salmanId).orElseThrow().getFirstName());
+        assertEquals(List.of("Salman"), firstNames(employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("Ahm", BigDecimal.valueOf(1500), BigDecimal.valueOf(2500)))));
+        assertEquals(List.of("Salman", "Ali"), firstNames(employeeRepository.findByPredicate(
+                employee -> employee.getSalary().compareTo(BigDecimal.valueOf(1500)) > 0)));
+        assertEquals(List.of("Mohamed", "Salman", "Ali"), firstNames(employeeRepository.findAll()));
+
+        // The indexes of a reopened repository are built from the rows of its table
+        employeeRepository.compact();
+        employeeRepository.close();
+        employeeRepository = openRepository(tableLayout);
+
+        assertEquals("Salman", employeeRepository.findById(salmanId).orElseThrow().getFirstName());
+        assertEquals(List.of("Salman"), firstNames(employeeRepository.findByCriteria(
+                new EmployeeSearchCriteria("Ahm", BigDecimal.valueOf(1500), BigDecimal.valueOf(2500)))));
+        assertEquals(3, employeeRepository.statistics(null).headcount());
+        assertEquals(0, BigDecimal.valueOf(3000).compareTo(employeeRepository.statistics(null).maxSalary()));
+    }
+
+    @Test
+    void testLogWithoutHeaderIsReadAsJson() throws IOException {
+        employeeRepository.close();
+        Employee employee = createEmployee("Mohamed");
+        employee.setId(1L);
+        byte[] payload = objectMapper.writeValueAsBytes(employee);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES * 2 + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload);
+        Files.write(dataDirectory.resolve("employees.wal"), frame.array());
+        Files.writeString(dataDirectory.resolve("employee-id-sequence.txt"), "1");
+
+        employeeRepository = openRepository();
+        employeeRepository.create(createEmployee("Salman"));
+        employeeRepository.close();
+        employeeRepository = openRepository();
+
+        assertEquals(List.of("Mohamed", "Salman"), firstNames(employeeRepository.findAll()));
+    }
+
+    private EmployeeRepository openRepository() {
+        return openRepository(false, StorageFormat.BINARY, TableLayout.HEAP);
+    }
+
+    private EmployeeRepository openRepository(boolean caseInsensitive) {
+        return openRepository(caseInsensitive, StorageFormat.BINARY, TableLayout.HEAP);
+    }
+
+    private EmployeeRepository openRepository(StorageFormat format) {
+        return openRepository(false, format, TableLayout.HEAP);
+    }
+
+    private EmployeeRepository openRepository(TableLayout tableLayout) {
+        return openRepository(false, StorageFormat.BINARY, tableLayout);
+    }
+
+    private EmployeeRepository openRepository(boolean caseInsensitive, StorageFormat format, TableLayout tableLayout) {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setDataDirectory(dataDirectory);
+        storageProperties.setFormat(format);
+        storageProperties.setTableLayout(tableLayout);
+        storageProperties.setFsyncPolicy(FsyncPolicy.NEVER);
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setCaseInsensitive(caseInsensitive);
+        return new EmployeeRepository(objectMapper, storageProperties, searchProperties, meterRegistry);
+    }
+
+    private Path blockSnapshotWrites() throws IOException {
+        // A directory in the way of the temporary snapshot file makes writing the snapshot fail
+        return Files.createDirectory(dataDirectory.resolve("employees.snapshot.tmp"));
+    }
+
+    private static List<String> firstNames(List<Employee> employees) {
+        return employees.stream()
+                .map(Employee::getFirstName)
+                .toList();
+    }
+
+    private static Employee createEmployee(String firstName) {
+        return createEmployee(firstName, 1000);
+    }
+
+    private static Employee createEmployee(String firstName, double salary) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName("Ahmed")
+                .dateOfBirth(LocalDate.of(2000, 1, 1))
+                .salary(BigDecimal.valueOf(salary))
+                .joinDate(LocalDate.of(2023, 5, 18))
+                .department(Department.IT)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.adamonis.employeeservice.repository.index;
+
+import com.adamonis.employeeservice.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    private static final String[] NAMES = {"Mohamed", "Salman", "Ahmed", "Sara", "Omar", "Layla", "Karim"};
+
+    @Test
+    void testSharesIndexedSideBySideMatchSequentialIndex() {
+        List<Employee> employees = IntStream.range(0, 5000)
+                .mapToObj(i -> Employee.builder()
+                        .firstName(NAMES[i % NAMES.length] + i)
+                        .lastName(NAMES[i / NAMES.length % NAMES.length])
+                        .build())
+                .toList();
+        NameIndex sequential = new NameIndex(true);
+        NameIndex shared = new NameIndex(true);
+        for (int position = 0; position < employees.size(); position++) {
+            sequential.add(employees.get(position), position);
+        }
+
+        int shares = 4;
+        CompletableFuture.allOf(IntStream.range(0, shares)
+                .mapToObj(share -> CompletableFuture.runAsync(() -> {
+                    for (int position = 0; position < employees.size(); position++) {
+                        shared.add(employees.get(position), position, share, shares);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        for (String query : List.of("moh", "ahmed", "sara10", "salman4999", "xyz")) {
+            assertArrayEquals(sequential.candidates(query, 0, employees.size()),
+                    shared.candidates(query, 0, employees.size()), query);
+        }
+        assertTrue(shared.matches(4999, employees.get(4999), "salman4999"));
+    }
+}
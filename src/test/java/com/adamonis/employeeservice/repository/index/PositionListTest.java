@@ -0,0 +1,44 @@
+package com.adamonis.employeeservice.repository.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionListTest {
+
+    @Test
+    void testMergeMatchesSortedConcatenation() {
+        Random random = new Random(42);
+        int[] owners = IntStream.range(0, 10_000).map(position -> random.nextInt(37)).toArray();
+        int[][] postings = new int[37][];
+        for (int list = 0; list < postings.length; list++) {
+            int owner = list;
+            postings[list] = IntStream.range(0, owners.length).filter(position -> owners[position] == owner).toArray();
+        }
+
+        assertArrayEquals(IntStream.range(0, owners.length).toArray(), PositionList.merge(postings));
+    }
+
+    @Test
+    void testMergeSkipsEmptyLists() {
+        int[][] postings = {{}, {2, 5}, {}, {1, 3, 4}, {}};
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, PositionList.merge(postings));
+        assertArrayEquals(new int[0], PositionList.merge(new int[][]{{}, {}}));
+        assertArrayEquals(new int[0], PositionList.merge(new int[0][]));
+    }
+
+    @Test
+    void testToArrayIsBoundedByPositions() {
+        PositionList positions = new PositionList();
+        IntStream.of(1, 4, 9, 16, 25).forEach(positions::add);
+
+        assertArrayEquals(new int[]{4, 9, 16}, positions.toArray(2, 25));
+        assertEquals(5, positions.size());
+        assertTrue(Arrays.stream(positions.toArray(0, 100)).allMatch(positions::contains));
+    }
+}
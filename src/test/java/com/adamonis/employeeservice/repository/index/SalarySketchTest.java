@@ -0,0 +1,79 @@
+package com.adamonis.employeeservice.repository.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalarySketchTest {
+
+    @Test
+    void testQuantilesAreWithinRelativeAccuracy() {
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1; salary <= 100_000; salary++) {
+            sketch.add(salary);
+        }
+
+        assertEquals(100_000, sketch.count());
+        assertEquals(1, sketch.quantile(0), 0.01);
+        assertEquals(50_000, sketch.quantile(0.5), 500);
+        assertEquals(99_000, sketch.quantile(0.99), 990);
+        assertEquals(100_000, sketch.quantile(1), 1000);
+    }
+
+    @Test
+    void testQuantilesOfFewValuesUseNearestRank() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(1000);
+        sketch.add(2000);
+        sketch.add(3000);
+
+        assertEquals(1000, sketch.quantile(0), 10);
+        assertEquals(1000, sketch.quantile(0.33), 10);
+        assertEquals(2000, sketch.quantile(0.34), 20);
+        assertEquals(2000, sketch.quantile(0.5), 20);
+        assertEquals(3000, sketch.quantile(0.99), 30);
+        assertEquals(3000, sketch.quantile(1), 30);
+    }
+
+    @Test
+    void testMergedSketchMatchesSketchOfAllValues() {
+        Random random = new Random(42);
+        SalarySketch all = new SalarySketch();
+        SalarySketch low = new SalarySketch();
+        SalarySketch high = new SalarySketch();
+        for (int i = 0; i < 10_000; i++) {
+            double lowSalary = 1000 + random.nextInt(1000);
+            double highSalary = 1_000_000 + random.nextInt(1_000_000);
+            all.add(lowSalary);
+            all.add(highSalary);
+            low.add(lowSalary);
+            high.add(highSalary);
+        }
+
+        SalarySketch merged = low.copy();
+        merged.merge(high);
+
+        assertEquals(all.count(), merged.count());
+        for (double quantile : new double[]{0, 0.25, 0.5, 0.75, 0.99, 1}) {
+            assertEquals(all.quantile(quantile), merged.quantile(quantile));
+        }
+        assertEquals(10_000, low.count());
+    }
+
+    @Test
+    void testZeroSalariesAndEmptySketch() {
+        SalarySketch sketch = new SalarySketch();
+
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(5000);
+
+        assertEquals(0, sketch.quantile(0.5));
+        assertEquals(5000, sketch.quantile(1), 50);
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    }
+}
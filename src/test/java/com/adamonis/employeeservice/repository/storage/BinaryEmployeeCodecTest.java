@@ -0,0 +1,80 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryEmployeeCodecTest {
+
+    private final BinaryEmployeeCodec codec = new BinaryEmployeeCodec();
+
+    @Test
+    void testRoundTripKeepsEveryField() throws IOException {
+        Employee employee = createEmployee(new BigDecimal("1234.50"));
+
+        Employee decoded = codec.decode(codec.encode(employee));
+
+        assertEquals(employee.getId(), decoded.getId());
+        assertEquals("Zo\u00EB", decoded.getFirstName());
+        assertEquals("Ahmed", decoded.getLastName());
+        assertEquals(employee.getDateOfBirth(), decoded.getDateOfBirth());
+        assertEquals(new BigDecimal("1234.50"), decoded.getSalary());
+        assertEquals(employee.getJoinDate(), decoded.getJoinDate());
+        assertEquals(Department.FINANCE, decoded.getDepartment());
+    }
+
+    @Test
+    void testRoundTripKeepsUnusualSalaries() throws IOException {
+        for (BigDecimal salary : new BigDecimal[]{
+                new BigDecimal("1E+3"), new BigDecimal("0.000001"), new BigDecimal("123456789012345678901234567890.12")}) {
+            assertEquals(salary, codec.decode(codec.encode(createEmployee(salary))).getSalary());
+        }
+    }
+
+    @Test
+    void testRoundTripKeepsMissingFields() throws IOException {
+        Employee decoded = codec.decode(codec.encode(Employee.builder().firstName("Mohamed").build()));
+
+        assertEquals("Mohamed", decoded.getFirstName());
+        assertNull(decoded.getId());
+        assertNull(decoded.getSalary());
+        assertNull(decoded.getDepartment());
+    }
+
+    @Test
+    void testRecordIsSmallerThanJson() throws IOException {
+        Employee employee = createEmployee(BigDecimal.valueOf(1000));
+
+        int binarySize = codec.encode(employee).length;
+        int jsonSize = new JsonEmployeeCodec(new ObjectMapper().findAndRegisterModules()).encode(employee).length;
+
+        assertTrue(binarySize * 2 < jsonSize, binarySize + " bytes vs " + jsonSize + " bytes of JSON");
+    }
+
+    @Test
+    void testTruncatedRecordIsRejected() throws IOException {
+        byte[] payload = codec.encode(createEmployee(BigDecimal.TEN));
+
+        assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(payload, payload.length - 3)));
+    }
+
+    private static Employee createEmployee(BigDecimal salary) {
+        return Employee.builder()
+                .id(42L)
+                .firstName("Zo\u00EB")
+                .lastName("Ahmed")
+                .dateOfBirth(LocalDate.of(1990, 2, 28))
+                .salary(salary)
+                .joinDate(LocalDate.of(2023, 5, 18))
+                .department(Department.FINANCE)
+                .build();
+    }
+}
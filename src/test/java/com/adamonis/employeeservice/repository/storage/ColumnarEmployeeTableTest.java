@@ -0,0 +1,114 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarEmployeeTableTest {
+
+    private final ColumnarEmployeeTable table = new ColumnarEmployeeTable();
+
+    @Test
+    void testGetDecodesEveryField() {
+        table.append(createEmployee(1, "Mohamed", "1000.50"));
+
+        Employee employee = table.get(0);
+
+        assertEquals(Long.valueOf(1), employee.getId());
+        assertEquals("Mohamed", employee.getFirstName());
+        assertEquals("Ahmed", employee.getLastName());
+        assertEquals(LocalDate.of(2000, 1, 1), employee.getDateOfBirth());
+        assertEquals(new BigDecimal("1000.50"), employee.getSalary());
+        assertEquals(LocalDate.of(2023, 5, 18), employee.getJoinDate());
+        assertEquals(Department.IT, employee.getDepartment());
+    }
+
+    @Test
+    void testSalaryInComparesStoredSalaries() {
+        table.append(createEmployee(1, "Mohamed", "999.99"));
+        table.append(createEmployee(2, "Salman", "1E+3"));
+        table.append(createEmployee(3, "Ali", "1500.5"));
+        table.append(createEmployee(4, "Omar", "123456789012345678901234567890"));
+        SalaryRange range = new SalaryRange(new BigDecimal("1000"), new BigDecimal("1500.50"));
+
+        assertFalse(table.salaryIn(0, range));
+        assertTrue(table.salaryIn(1, range));
+        assertTrue(table.salaryIn(2, range));
+        assertFalse(table.salaryIn(3, range));
+        assertEquals(new BigDecimal("123456789012345678901234567890"), table.get(3).getSalary());
+    }
+
+    @Test
+    void testNamesAreStoredOnce() {
+        table.append(createEmployee(1, new String("Mohamed"), "1000"));
+        table.append(createEmployee(2, new String("Mohamed"), "2000"));
+
+        assertSame(table.get(0).getFirstName(), table.get(1).getFirstName());
+    }
+
+    @Test
+    void testMissingFieldsAreReadAsNull() {
+        table.append(Employee.builder().id(1L).build());
+
+        Employee employee = table.get(0);
+
+        assertNull(employee.getFirstName());
+        assertNull(employee.getSalary());
+        assertNull(employee.getDateOfBirth());
+        assertNull(employee.getDepartment());
+        assertFalse(table.salaryIn(0, new SalaryRange(BigDecimal.ZERO, BigDecimal.TEN)));
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        for (long id = 1; id <= 5000; id++) {
+            table.append(createEmployee(id, "Employee" + id, String.valueOf(id)));
+        }
+
+        assertEquals(5000, table.size());
+        assertEquals("Employee4321", table.get(4320).getFirstName());
+        assertEquals(new BigDecimal("4321"), table.get(4320).getSalary());
+        assertEquals(4321, table.firstPositionAfter(4321, table.size()));
+    }
+
+    @Test
+    void testFilterReturnsIndependentEmployees() {
+        table.append(createEmployee(1, "Mohamed", "1000"));
+        table.append(createEmployee(2, "Salman", "2000"));
+        table.append(createEmployee(3, "Ali", "3000"));
+
+        List<Employee> matches = table.filter(0, table.size(), employee -> employee.getSalary().intValue() >= 2000);
+
+        assertEquals(List.of("Salman", "Ali"), matches.stream().map(Employee::getFirstName).toList());
+    }
+
+    @Test
+    void testFirstPositionAfterAndView() {
+        for (long id = 1; id <= 5; id++) {
+            table.append(createEmployee(id * 10, "Employee" + id, "1000"));
+        }
+
+        assertEquals(2, table.firstPositionAfter(25, table.size()));
+        assertEquals(5, table.firstPositionAfter(50, table.size()));
+        assertEquals("Employee3", table.view(3).get(2).getFirstName());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.view(3).get(3));
+    }
+
+    private static Employee createEmployee(long id, String firstName, String salary) {
+        return Employee.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName("Ahmed")
+                .dateOfBirth(LocalDate.of(2000, 1, 1))
+                .salary(new BigDecimal(salary))
+                .joinDate(LocalDate.of(2023, 5, 18))
+                .department(Department.IT)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.adamonis.employeeservice.repository.storage;
+
+import com.adamonis.employeeservice.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTableScannerTest {
+
+    private final HeapEmployeeTable table = new HeapEmployeeTable();
+
+    private ParallelTableScanner scanner;
+
+    @AfterEach
+    void tearDown() {
+        scanner.close();
+    }
+
+    @Test
+    void testParallelScanKeepsIdOrder() {
+        scanner = new ParallelTableScanner(4, 100, 7, 3);
+        appendEmployees(1000);
+
+        List<Employee> matches = scanner.filter(table, table.size(), employee -> employee.getId() % 3 == 0);
+
+        assertEquals(LongStream.rangeClosed(1, 1000).filter(id -> id % 3 == 0).boxed().toList(),
+                matches.stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void testParallelScanUsesAtMostMaxTasksThreads() {
+        scanner = new ParallelTableScanner(8, 100, 10, 2);
+        appendEmployees(10_000);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        scanner.filter(table, table.size(), employee -> threads.add(Thread.currentThread().getName()));
+
+        assertTrue(threads.size() <= 2);
+    }
+
+    @Test
+    void testSmallScanStaysOnCallingThread() {
+        scanner = new ParallelTableScanner(4, 1000, 7, 4);
+        appendEmployees(999);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Employee> matches = scanner.filter(table, table.size(),
+                employee -> threads.add(Thread.currentThread().getName()) || true);
+
+        assertEquals(999, matches.size());
+        assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    void testParallelPositionFilterKeepsOrderAndStopsAtLimit() {
+        scanner = new ParallelTableScanner(4, 100, 7, 3);
+        appendEmployees(1000);
+        int[] positions = IntStream.range(0, 1000).filter(position -> position % 2 == 0).toArray();
+
+        List<Employee> all = scanner.filter(positions, Integer.MAX_VALUE,
+                position -> position % 3 == 0 ? table.get(position) : null);
+        List<Employee> page = scanner.filter(positions, 10, position -> position % 3 == 0 ? table.get(position) : null);
+
+        List<Long> expected = IntStream.range(0, 1000).filter(position -> position % 6 == 0)
+                .mapToObj(position -> (long) position + 1).toList();
+        assertEquals(expected, all.stream().map(Employee::getId).toList());
+        assertEquals(expected.subList(0, 10), page.stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void testLargePositionFilterRunsOnThePool() {
+        scanner = new ParallelTableScanner(4, 100, 10, 4);
+        appendEmployees(10_000);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicInteger waiting = new AtomicInteger();
+
+        scanner.filter(IntStream.range(0, table.size()).toArray(), Integer.MAX_VALUE, position -> {
+            if (position % 10 == 0 && threads.add(Thread.currentThread().getName()) && waiting.getAndIncrement() < 2) {
+                try {
+                    // Only passes once a second thread examines a segment at the same time
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return null;
+        });
+
+        assertTrue(threads.stream().anyMatch(name -> name.startsWith("employee-scan-")));
+    }
+
+    @Test
+    void testRunAllRunsTasksAtTheSameTime() {
+        scanner = new ParallelTableScanner(2, 100, 7, 4);
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Runnable task = () -> {
+            threads.add(Thread.currentThread().getName());
+            try {
+                // Only passes if all three tasks are running at once
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        scanner.runAll(task, task, task);
+
+        assertEquals(3, threads.size());
+        assertTrue(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void testPredicateFailureIsRethrown() {
+        scanner = new ParallelTableScanner(4, 100, 7, 4);
+        appendEmployees(1000);
+
+        assertThrows(IllegalStateException.class, () -> scanner.filter(table, table.size(), employee -> {
+            if (employee.getId() == 500) {
+                throw new IllegalStateException("Failed");
+            }
+            return true;
+        }));
+    }
+
+    private void appendEmployees(int count) {
+        for (long id = 1; id <= count; id++) {
+            table.append(Employee.builder()
+                    .id(id)
+                    .firstName("Employee" + id)
+                    .lastName("Ahmed")
+                    .salary(BigDecimal.valueOf(id))
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.CacheConfig;
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.dto.CacheStatsDto;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheStatsServiceTest {
+
+    @Test
+    void testReportsHitsMissesAndWeight() {
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setCacheMaximumWeight(500);
+        CacheManager cacheManager = new CacheConfig().cacheManager(searchProperties);
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        EmployeeResponseDto employee = EmployeeResponseDto.builder().id(1L).build();
+
+        cache.get("first", () -> new EmployeePageDto(List.of(employee, employee), null));
+        cache.get("first", () -> fail("cached page was loaded again"));
+        cache.get("second", () -> new EmployeePageDto(List.of(), null));
+
+        CacheStatsDto stats = new CacheStatsService(cacheManager).getSearchCacheStats();
+
+        assertEquals(3, stats.requestCount());
+        assertEquals(1, stats.hitCount());
+        assertEquals(2, stats.missCount());
+        assertEquals(2, stats.loadCount());
+        assertEquals(2, stats.estimatedSize());
+        assertEquals(4, stats.weightedSize());
+        assertEquals(500, stats.maximumWeight());
+    }
+}
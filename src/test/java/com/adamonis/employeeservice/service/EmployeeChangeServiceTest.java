@@ -0,0 +1,160 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.dto.EmployeeChangeDto;
+import com.adamonis.employeeservice.dto.EmployeeChangePageDto;
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
+    private EmployeeChangeService employeeChangeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeChangeService = new EmployeeChangeService(employeeRepository, employeeJsonCache);
+        verify(employeeRepository).addCreateListener(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeChangeService.close();
+    }
+
+    @Test
+    void testGetChangesNumbersChangesFromTheOffset() {
+        Employee first = Employee.builder().id(11L).firstName("Mohamed").build();
+        Employee second = Employee.builder().id(12L).firstName("Salman").build();
+        EmployeeResponseDto firstDto = EmployeeResponseDto.builder().id(11L).firstName("Mohamed").build();
+        EmployeeResponseDto secondDto = EmployeeResponseDto.builder().id(12L).firstName("Salman").build();
+
+        when(employeeRepository.findCreatedAfter(5, 2)).thenReturn(List.of(first, second));
+        when(employeeJsonCache.get(first)).thenReturn(firstDto);
+        when(employeeJsonCache.get(second)).thenReturn(secondDto);
+
+        EmployeeChangePageDto result = employeeChangeService.getChanges(5, 2, Duration.ofSeconds(10));
+
+        assertEquals(List.of(
+                new EmployeeChangeDto(6, EmployeeChangeService.CREATED, firstDto),
+                new EmployeeChangeDto(7, EmployeeChangeService.CREATED, secondDto)), result.changes());
+        assertEquals(7, result.lastSequence());
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    @Test
+    void testGetChangesWaitsWhenNoChangeFollows() throws InterruptedException {
+        Employee employee = Employee.builder().id(3L).firstName("Mohamed").build();
+        EmployeeResponseDto responseDto = EmployeeResponseDto.builder().id(3L).firstName("Mohamed").build();
+
+        when(employeeRepository.findCreatedAfter(2, 100)).thenReturn(List.of()).thenReturn(List.of(employee));
+        when(employeeRepository.awaitCreatedAfter(2, Duration.ofSeconds(5))).thenReturn(true);
+        when(employeeJsonCache.get(employee)).thenReturn(responseDto);
+
+        EmployeeChangePageDto result = employeeChangeService.getChanges(2, 100, Duration.ofSeconds(5));
+
+        assertEquals(List.of(new EmployeeChangeDto(3, EmployeeChangeService.CREATED, responseDto)), result.changes());
+        assertEquals(3, result.lastSequence());
+    }
+
+    @Test
+    void testGetChangesReturnsTheOffsetWhenTheWaitExpires() throws InterruptedException {
+        when(employeeRepository.findCreatedAfter(2, 100)).thenReturn(List.of());
+        when(employeeRepository.awaitCreatedAfter(2, Duration.ofSeconds(1))).thenReturn(false);
+
+        EmployeeChangePageDto result = employeeChangeService.getChanges(2, 100, Duration.ofSeconds(1));
+
+        assertEquals(new EmployeeChangePageDto(List.of(), 2), result);
+    }
+
+    @Test
+    void testStreamThatStopsReadingDoesNotHoldUpTheOthers() throws Exception {
+        employeeChangeService.close();
+        employeeChangeService = new EmployeeChangeService(employeeRepository, employeeJsonCache, Duration.ofMillis(200));
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(employeeRepository, times(2)).addCreateListener(listener.capture());
+        AtomicReference<List<Employee>> committed = new AtomicReference<>(List.of());
+        when(employeeRepository.findCreatedAfter(0, EmployeeChangeService.MAX_BATCH_SIZE))
+                .thenReturn(List.of(Employee.builder().id(11L).build()));
+        when(employeeRepository.findCreatedAfter(1, EmployeeChangeService.MAX_BATCH_SIZE))
+                .thenAnswer(invocation -> committed.get());
+
+        CountDownLatch unblock = new CountDownLatch(1);
+        AtomicInteger stalledSends = new AtomicInteger();
+        AtomicBoolean stalledCompleted = new AtomicBoolean();
+        employeeChangeService.streamChanges(0, new SseEmitter() {
+            @Override
+            public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+                stalledSends.incrementAndGet();
+                try {
+                    // A client that stops reading blocks the write until its socket times out
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+
+            @Override
+            public void complete() {
+                stalledCompleted.set(true);
+            }
+        });
+        AtomicInteger readingSends = new AtomicInteger();
+        employeeChangeService.streamChanges(0, new SseEmitter() {
+            @Override
+            public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+                readingSends.incrementAndGet();
+            }
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> readingSends.get() == 1 && stalledSends.get() == 1);
+
+        committed.set(List.of(Employee.builder().id(12L).build()));
+        listener.getValue().run();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> readingSends.get() == 2);
+        // Blocked for longer than the send timeout, the stalled stream is dropped while its write is still pending
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(5)).until(() -> !stalledCompleted.get());
+        unblock.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilTrue(stalledCompleted);
+        assertEquals(1, stalledSends.get());
+    }
+
+    @Test
+    void testGetChangesWithoutWaitDoesNotBlock() {
+        when(employeeRepository.findCreatedAfter(2, 100)).thenReturn(List.of());
+
+        EmployeeChangePageDto result = employeeChangeService.getChanges(2, 100, Duration.ZERO);
+
+        assertTrue(result.changes().isEmpty());
+        verifyNoMoreInteractions(employeeRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.dto.BulkImportResponseDto;
+import com.adamonis.employeeservice.dto.BulkImportRowResultDto;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceTest {
+
+    private static final String VALID_ROW = """
+            {"firstName":"Mohamed","lastName":"Ahmed","dateOfBirth":"2000-01-01","salary":1000,"joinDate":"2023-05-18","department":"IT"}""";
+    private static final String ROW_WITHOUT_SALARY = """
+            {"firstName":"Salman","lastName":"Ebrahim","dateOfBirth":"1990-01-01","joinDate":"2016-03-18","department":"BUSINESS"}""";
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EmployeeSearchCacheEvictor searchCacheEvictor;
+
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final StorageProperties storageProperties = new StorageProperties();
+    private final List<Integer> persistedBatchSizes = new ArrayList<>();
+
+    private EmployeeImportService employeeImportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeImportService = new EmployeeImportService(employeeRepository, employeeMapper,
+                new ObjectMapper().findAndRegisterModules(), validatorFactory.getValidator(), storageProperties,
+                searchCacheEvictor, employeeJsonCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void testImportJsonArrayReportsEveryRow() {
+        stubPersistence();
+
+        BulkImportResponseDto result = importEmployees("[" + VALID_ROW + "," + ROW_WITHOUT_SALARY + "," + VALID_ROW + "]");
+
+        assertEquals(2, result.created());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(2), persistedBatchSizes);
+        assertEquals(new BulkImportRowResultDto(0, 100L, null), result.rows().get(0));
+        assertEquals("Salary cannot be null", result.rows().get(1).errors().get("salary"));
+        assertEquals(new BulkImportRowResultDto(2, 101L, null), result.rows().get(2));
+    }
+
+    @Test
+    void testImportNdjsonPersistsInBatches() {
+        stubPersistence();
+        storageProperties.setImportBatchSize(2);
+
+        BulkImportResponseDto result = importEmployees(VALID_ROW + "\n" + VALID_ROW + "\n" + VALID_ROW + "\n");
+
+        assertEquals(3, result.created());
+        assertEquals(List.of(2, 1), persistedBatchSizes);
+        verify(searchCacheEvictor, times(2)).evictAffectedSearches(anyList());
+    }
+
+    @Test
+    void testImportStopsAtMalformedJson() {
+        stubPersistence();
+
+        BulkImportResponseDto result = importEmployees("[" + VALID_ROW + ", {\"firstName\": ]");
+
+        assertEquals(1, result.created());
+        assertEquals(1, result.failed());
+        assertTrue(result.rows().get(1).errors().get("body").startsWith("Malformed JSON"));
+    }
+
+    @Test
+    void testImportRejectsRowsThatCannotBeBound() {
+        BulkImportResponseDto result = importEmployees("[{\"salary\": \"a lot\"}, 42]");
+
+        assertEquals(0, result.created());
+        assertEquals(2, result.failed());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private void stubPersistence() {
+        when(employeeMapper.mapEmployeeRequestDtoToEmployee(any())).thenAnswer(invocation -> new Employee());
+        when(employeeRepository.createAll(anyList())).thenAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            persistedBatchSizes.add(employees.size());
+            return 100L;
+        });
+    }
+
+    private BulkImportResponseDto importEmployees(String body) {
+        return employeeImportService.importEmployees(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
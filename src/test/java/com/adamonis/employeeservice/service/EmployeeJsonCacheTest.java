@@ -0,0 +1,156 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.storage.TableLayout;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeJsonCacheTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private final SearchProperties searchProperties = new SearchProperties();
+
+    private final StorageProperties storageProperties = new StorageProperties();
+
+    private final ObjectMapper plainMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ObjectMapper objectMapper;
+
+    private EmployeeJsonCache employeeJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .registerModule(PrecomputedEmployeeSerializer.module(() -> employeeJsonCache));
+        employeeJsonCache = new EmployeeJsonCache(employeeRepository, employeeMapper, objectMapper, searchProperties,
+                storageProperties);
+    }
+
+    @Test
+    void testGetMapsEachEmployeeOnce() {
+        Employee employee = employee(1L, "Mohamed");
+        EmployeeResponseDto dto = dto(employee);
+        when(employeeRepository.findVersionById(1L)).thenReturn(OptionalLong.of(1));
+        when(employeeMapper.mapEmployeeToEmployeeResponseDto(employee)).thenReturn(dto);
+
+        assertSame(dto, employeeJsonCache.get(employee));
+        assertSame(dto, employeeJsonCache.get(employee));
+
+        verify(employeeMapper, times(1)).mapEmployeeToEmployeeResponseDto(employee);
+    }
+
+    @Test
+    void testCachedEmployeesSerializeLikeUncachedOnes() throws Exception {
+        // Versions beyond the first chunk make the cache grow
+        List<EmployeeResponseDto> dtos = List.of(cached(1L, "Mohamed", 1), cached(2L, "Sara", 10_000));
+
+        assertEquals(plainMapper.writeValueAsString(dtos), objectMapper.writeValueAsString(dtos));
+    }
+
+    @Test
+    void testOtherInstancesWithTheSameIdAreSerializedFromTheirOwnFields() throws Exception {
+        cached(1L, "Mohamed", 1);
+        EmployeeResponseDto other = dto(employee(1L, "Ahmed"));
+
+        assertEquals(plainMapper.writeValueAsString(other), objectMapper.writeValueAsString(other));
+    }
+
+    @Test
+    void testDisabledCacheMapsEveryRead() throws Exception {
+        searchProperties.setPrecomputedJson(false);
+        employeeJsonCache = new EmployeeJsonCache(employeeRepository, employeeMapper, objectMapper, searchProperties,
+                storageProperties);
+        Employee employee = employee(1L, "Mohamed");
+        when(employeeMapper.mapEmployeeToEmployeeResponseDto(employee)).thenReturn(dto(employee));
+
+        EmployeeResponseDto dto = employeeJsonCache.get(employee);
+        employeeJsonCache.get(employee);
+
+        assertEquals(plainMapper.writeValueAsString(dto), objectMapper.writeValueAsString(dto));
+        verify(employeeMapper, times(2)).mapEmployeeToEmployeeResponseDto(employee);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void testCacheIsOnlyEnabledByDefaultForTheHeapLayout() {
+        long heapShare = Runtime.getRuntime().maxMemory() / 10 / 1024;
+        assertEquals(heapShare, employeeJsonCache.capacity());
+
+        storageProperties.setTableLayout(TableLayout.MAPPED);
+        assertEquals(0, new EmployeeJsonCache(employeeRepository, employeeMapper, objectMapper, searchProperties,
+                storageProperties).capacity());
+
+        searchProperties.setPrecomputedJson(true);
+        assertEquals(heapShare, new EmployeeJsonCache(employeeRepository, employeeMapper, objectMapper,
+                searchProperties, storageProperties).capacity());
+    }
+
+    @Test
+    void testEmployeesBeyondTheCapacityAreMappedOnEveryRead() throws Exception {
+        searchProperties.setPrecomputedJsonMaxEmployees(1);
+        employeeJsonCache = new EmployeeJsonCache(employeeRepository, employeeMapper, objectMapper, searchProperties,
+                storageProperties);
+        EmployeeResponseDto first = cached(1L, "Mohamed", 1);
+        EmployeeResponseDto second = cached(2L, "Sara", 2);
+        Employee employee = employee(2L, "Sara");
+
+        assertSame(first, employeeJsonCache.get(employee(1L, "Mohamed")));
+        assertNotSame(second, employeeJsonCache.get(employee));
+        assertEquals(plainMapper.writeValueAsString(second), objectMapper.writeValueAsString(second));
+    }
+
+    private EmployeeResponseDto cached(long id, String firstName, long version) {
+        Employee employee = employee(id, firstName);
+        when(employeeRepository.findVersionById(id)).thenReturn(OptionalLong.of(version));
+        when(employeeMapper.mapEmployeeToEmployeeResponseDto(employee)).thenReturn(dto(employee));
+        return employeeJsonCache.get(employee);
+    }
+
+    private static Employee employee(long id, String firstName) {
+        return Employee.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName("Ahmed")
+                .dateOfBirth(LocalDate.of(1990, 5, 17))
+                .salary(new BigDecimal("1234.50"))
+                .joinDate(LocalDate.of(2020, 1, 2))
+                .department(Department.IT)
+                .build();
+    }
+
+    private static EmployeeResponseDto dto(Employee employee) {
+        return EmployeeResponseDto.builder()
+                .id(employee.getId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .dateOfBirth(employee.getDateOfBirth())
+                .salary(employee.getSalary())
+                .joinDate(employee.getJoinDate())
+                .department(employee.getDepartment())
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.CacheConfig;
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeSearchCacheEvictorTest {
+
+    private static final EmployeePageDto LAST_PAGE = new EmployeePageDto(List.of(), null);
+    private static final EmployeePageDto FULL_PAGE = new EmployeePageDto(List.of(), "Mg");
+
+    private Cache cache;
+    private EmployeeSearchCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new CacheConfig().cacheManager(new SearchProperties());
+        cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        evictor = new EmployeeSearchCacheEvictor(cacheManager);
+    }
+
+    @Test
+    void testEvictsOnlyMatchingSearches() {
+        EmployeeSearchQuery matchingName = query("moh", 0, 5000);
+        EmployeeSearchQuery otherName = query("Sal", 0, 5000);
+        EmployeeSearchQuery otherSalary = query("Moh", 2000, 5000);
+        cache.put(matchingName, LAST_PAGE);
+        cache.put(otherName, LAST_PAGE);
+        cache.put(otherSalary, LAST_PAGE);
+
+        evictor.evictAffectedSearches(List.of(employee("Mohamed", "Ahmed", 1000)));
+
+        assertNull(cache.get(matchingName));
+        assertNotNull(cache.get(otherName));
+        assertNotNull(cache.get(otherSalary));
+    }
+
+    @Test
+    void testKeepsSearchesOfOtherDepartments() {
+        EmployeeSearchQuery sameDepartment = new EmployeeSearchQuery(
+                new EmployeeSearchCriteria("Ahm", BigDecimal.ZERO, BigDecimal.valueOf(5000), Department.IT), null, null);
+        EmployeeSearchQuery otherDepartment = new EmployeeSearchQuery(
+                new EmployeeSearchCriteria("Ahm", BigDecimal.ZERO, BigDecimal.valueOf(5000), Department.HR), null, null);
+        cache.put(sameDepartment, LAST_PAGE);
+        cache.put(otherDepartment, LAST_PAGE);
+
+        evictor.evictAffectedSearches(List.of(employee("Mohamed", "Ahmed", 1000)));
+
+        assertNull(cache.get(sameDepartment));
+        assertNotNull(cache.get(otherDepartment));
+    }
+
+    @Test
+    void testKeepsPagesFollowedByMorePages() {
+        EmployeeSearchQuery firstPage = new EmployeeSearchQuery(criteria("Ahm", 0, 5000), null, 1);
+        EmployeeSearchQuery lastPage = new EmployeeSearchQuery(criteria("Ahm", 0, 5000), "Mg", 1);
+        cache.put(firstPage, FULL_PAGE);
+        cache.put(lastPage, LAST_PAGE);
+
+        evictor.evictAffectedSearches(List.of(employee("Mohamed", "Ahmed", 1000)));
+
+        assertNotNull(cache.get(firstPage));
+        assertNull(cache.get(lastPage));
+    }
+
+    @Test
+    void testMatchesNamesIgnoringCase() {
+        EmployeeSearchQuery upperCaseQuery = query("HAMED", 0, 5000);
+        EmployeeSearchQuery mixedCaseQuery = query("aHmEd", 0, 5000);
+        EmployeeSearchQuery longerQuery = query("Mohamed Ahmed", 0, 5000);
+        cache.put(upperCaseQuery, LAST_PAGE);
+        cache.put(mixedCaseQuery, LAST_PAGE);
+        cache.put(longerQuery, LAST_PAGE);
+
+        evictor.evictAffectedSearches(List.of(employee("Mohamed", "Ahmed", 1000)));
+
+        assertNull(cache.get(upperCaseQuery));
+        assertNull(cache.get(mixedCaseQuery));
+        assertNotNull(cache.get(longerQuery));
+    }
+
+    @Test
+    void testLargeBatchClearsEverySearch() {
+        EmployeeSearchQuery matching = query("Ahm", 0, 5000);
+        EmployeeSearchQuery other = query("Sal", 0, 5000);
+        EmployeeSearchQuery firstPage = new EmployeeSearchQuery(criteria("Sal", 0, 5000), null, 1);
+        cache.put(matching, LAST_PAGE);
+        cache.put(other, LAST_PAGE);
+        cache.put(firstPage, FULL_PAGE);
+        List<Employee> batch = IntStream.rangeClosed(0, EmployeeSearchCacheEvictor.MAX_CHECKED_EMPLOYEES)
+                .mapToObj(i -> employee("Mohamed", "Ahmed", 1000))
+                .toList();
+
+        evictor.evictAffectedSearches(batch);
+
+        assertNull(cache.get(matching));
+        assertNull(cache.get(other));
+        assertNull(cache.get(firstPage));
+    }
+
+    @Test
+    void testEvictsPagesOfSearchesLoadingDuringCreate() throws Exception {
+        EmployeeSearchQuery matching = query("Ahm", 0, 5000);
+        EmployeeSearchQuery other = query("Sal", 0, 5000);
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch created = new CountDownLatch(1);
+        Callable<EmployeePageDto> staleLoad = () -> {
+            // Reads the data before the create, and stores its page after the create evicted the cache
+            loading.countDown();
+            created.await();
+            return LAST_PAGE;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<EmployeePageDto> matchingSearch = executor.submit(() -> cache.get(matching, staleLoad));
+            Future<EmployeePageDto> otherSearch = executor.submit(() -> cache.get(other, staleLoad));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            evictor.evictAffectedSearches(List.of(employee("Mohamed", "Ahmed", 1000)));
+            created.countDown();
+
+            assertSame(LAST_PAGE, matchingSearch.get(5, TimeUnit.SECONDS));
+            assertSame(LAST_PAGE, otherSearch.get(5, TimeUnit.SECONDS));
+            assertNull(cache.get(matching));
+            assertNotNull(cache.get(other));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static EmployeeSearchQuery query(String name, double fromSalary, double toSalary) {
+        return new EmployeeSearchQuery(criteria(name, fromSalary, toSalary), null, null);
+    }
+
+    private static EmployeeSearchCriteria criteria(String name, double fromSalary, double toSalary) {
+        return new EmployeeSearchCriteria(name, BigDecimal.valueOf(fromSalary), BigDecimal.valueOf(toSalary));
+    }
+
+    private static Employee employee(String firstName, String lastName, double salary) {
+        return Employee.builder()
+                .id(3L)
+                .firstName(firstName)
+                .lastName(lastName)
+                .salary(BigDecimal.valueOf(salary))
+                .department(Department.IT)
+                .build();
+    }
+}
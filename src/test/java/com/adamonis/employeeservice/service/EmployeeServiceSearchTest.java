@@ -0,0 +1,124 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
+import com.adamonis.employeeservice.dto.EmployeeResponseDto;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+import com.adamonis.employeeservice.repository.storage.FsyncPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs searches through the service against a repository small enough to search in parallel segments.
+ */
+class EmployeeServiceSearchTest {
+
+    private static final String[] NAMES = {"Mohamed", "Salman", "Ahmed", "Sara", "Omar", "Layla", "Karim"};
+
+    @TempDir
+    private Path dataDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeService employeeService;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setDataDirectory(dataDirectory);
+        storageProperties.setFsyncPolicy(FsyncPolicy.NEVER);
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setParallelScanThreshold(100);
+        searchProperties.setParallelScanSegmentSize(16);
+        searchProperties.setParallelScanPoolSize(4);
+        searchProperties.setParallelScanMaxTasks(4);
+        employeeRepository = new EmployeeRepository(objectMapper, storageProperties, searchProperties,
+                new SimpleMeterRegistry());
+        EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+        employeeService = new EmployeeService(employeeRepository, employeeMapper,
+                new EmployeeSearchCacheEvictor(new NoOpCacheManager()),
+                new EmployeeJsonCache(employeeRepository, employeeMapper, objectMapper, searchProperties,
+                        storageProperties));
+
+        employeeRepository.createAll(IntStream.range(0, 5000)
+                .mapToObj(i -> Employee.builder()
+                        .firstName(NAMES[i % NAMES.length])
+                        .lastName(NAMES[i / NAMES.length % NAMES.length])
+                        .salary(BigDecimal.valueOf(1000 + i % 997))
+                        .department(Department.values()[i % Department.values().length])
+                        .build())
+                .toList());
+        employees = employeeRepository.findAll();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        employeeRepository.close();
+    }
+
+    @Test
+    void testBroadSearchMatchesEveryEmployeeInIdOrder() {
+        // A name shorter than a trigram makes every employee in the salary range a candidate
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria("a", BigDecimal.valueOf(1100), BigDecimal.valueOf(1900));
+
+        EmployeePageDto page = employeeService.searchEmployees(new EmployeeSearchQuery(criteria, null, null));
+
+        assertEquals(expectedIds(criteria), ids(page.employees()));
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testPagesOfBroadSearchJoinUpToAllMatches() {
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria("r", BigDecimal.ZERO, BigDecimal.valueOf(5000),
+                Department.IT);
+
+        List<EmployeeResponseDto> joined = new ArrayList<>();
+        String cursor = null;
+        do {
+            EmployeePageDto page = employeeService.searchEmployees(new EmployeeSearchQuery(criteria, cursor, 37));
+            assertTrue(page.employees().size() <= 37);
+            joined.addAll(page.employees());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(expectedIds(criteria), ids(joined));
+    }
+
+    private List<Long> expectedIds(EmployeeSearchCriteria criteria) {
+        return employees.stream()
+                .filter(employee -> criteria.department() == null || criteria.department() == employee.getDepartment())
+                .filter(criteria::matchesSalary)
+                .filter(employee -> employee.getFirstName().contains(criteria.name())
+                        || employee.getLastName().contains(criteria.name()))
+                .map(Employee::getId)
+                .toList();
+    }
+
+    private static List<Long> ids(List<EmployeeResponseDto> employees) {
+        return employees.stream().map(EmployeeResponseDto::id).toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.adamonis.employeeservice.service;
 
+import com.adamonis.employeeservice.dto.EmployeeBatchResponseDto;
+import com.adamonis.employeeservice.dto.EmployeePageDto;
 import com.adamonis.employeeservice.dto.EmployeeRequestDto;
 import com.adamonis.employeeservice.dto.EmployeeResponseDto;
 import com.adamonis.employeeservice.dto.NewEmployeeResponseDto;
@@ -7,17 +9,25 @@ import com.adamonis.employeeservice.exception.EmployeeNotFoundException;
 import com.adamonis.employeeservice.mapper.EmployeeMapper;
 import com.adamonis.employeeservice.model.enums.Department;
 import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.repository.DataVersion;
 import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +41,12 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private EmployeeSearchCacheEvictor searchCacheEvictor;
+
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -49,6 +65,8 @@ class EmployeeServiceTest {
         assertEquals(responseDto, result);
         verify(employeeMapper).mapEmployeeRequestDtoToEmployee(requestDto);
         verify(employeeRepository).create(employee);
+        verify(searchCacheEvictor).evictAffectedSearches(List.of(employee));
+        verify(employeeJsonCache).get(employee);
     }
 
     @Test
@@ -56,21 +74,21 @@ class EmployeeServiceTest {
         Employee employee = createFirstEmployee();
         EmployeeResponseDto responseDto = createEmployeeResponseDto();
 
-        when(employeeRepository.findFirstByPredicate(any())).thenReturn(Optional.of(employee));
-        when(employeeMapper.mapEmployeeToEmployeeResponseDto(employee)).thenReturn(responseDto);
+        when(employeeRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(employeeJsonCache.get(employee)).thenReturn(responseDto);
 
         EmployeeResponseDto result = employeeService.getEmployeeById(employee.getId());
 
         assertEquals(responseDto, result);
-        verify(employeeRepository).findFirstByPredicate(any());
-        verify(employeeMapper).mapEmployeeToEmployeeResponseDto(employee);
+        verify(employeeRepository).findById(employee.getId());
+        verify(employeeJsonCache).get(employee);
     }
 
     @Test
     void testGetEmployeeByIdNotFound() {
         Long employeeId = 1L;
 
-        when(employeeRepository.findFirstByPredicate(any())).thenReturn(Optional.empty());
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.empty());
 
         EmployeeNotFoundException thrownException = assertThrows(EmployeeNotFoundException.class, () ->
                 employeeService.getEmployeeById(employeeId)
@@ -79,30 +97,119 @@ class EmployeeServiceTest {
         assertEquals("Employee with ID " + employeeId + " not found", thrownException.getMessage());
     }
 
+    @Test
+    void testGetEmployeesByIds() {
+        Employee employee = createFirstEmployee();
+        EmployeeResponseDto responseDto = createEmployeeResponseDto();
+        List<Long> ids = List.of(3L, 1L, 3L);
+
+        when(employeeRepository.findAllById(ids)).thenReturn(Map.of(1L, employee));
+        when(employeeJsonCache.get(employee)).thenReturn(responseDto);
+
+        EmployeeBatchResponseDto result = employeeService.getEmployeesByIds(ids);
+
+        assertEquals(new EmployeeBatchResponseDto(List.of(responseDto), List.of(3L)), result);
+        verify(employeeRepository).findAllById(ids);
+    }
+
     @Test
     void testSearchEmployees() {
         Employee firstEmployee = createFirstEmployee();
         Employee secondEmployee = createSecondEmployee();
         EmployeeResponseDto responseDto = createEmployeeResponseDto();
 
-        when(employeeRepository.findByPredicate(any())).thenReturn(List.of(firstEmployee));
-        when(employeeMapper.mapEmployeeToEmployeeResponseDto(firstEmployee)).thenReturn(responseDto);
+        when(employeeRepository.findByCriteria(any(), eq(0L), eq(Integer.MAX_VALUE))).thenReturn(List.of(firstEmployee));
+        when(employeeJsonCache.get(firstEmployee)).thenReturn(responseDto);
 
-        List<EmployeeResponseDto> result = employeeService.searchEmployees("Moh", BigDecimal.valueOf(500), BigDecimal.valueOf(1500));
+        EmployeePageDto result = employeeService.searchEmployees(query("Moh", BigDecimal.valueOf(500), BigDecimal.valueOf(1500), null, null));
 
-        assertEquals(List.of(responseDto), result);
-        verify(employeeRepository).findByPredicate(any());
-        verify(employeeMapper).mapEmployeeToEmployeeResponseDto(firstEmployee);
+        assertEquals(new EmployeePageDto(List.of(responseDto), null), result);
+        verify(employeeRepository).findByCriteria(any(), eq(0L), eq(Integer.MAX_VALUE));
+        verify(employeeJsonCache).get(firstEmployee);
+    }
+
+    @Test
+    void testSearchEmployeesKeepsTheDataVersionReadBeforeSearching() {
+        DataVersion dataVersion = new DataVersion(5, Instant.parse("2024-01-01T00:00:00Z"));
+
+        when(employeeRepository.dataVersion()).thenReturn(dataVersion);
+        when(employeeRepository.findByCriteria(any(), eq(0L), eq(Integer.MAX_VALUE))).thenReturn(List.of());
+
+        EmployeePageDto result = employeeService.searchEmployees(query("Al", BigDecimal.ZERO, BigDecimal.ONE, null, null));
+
+        assertEquals(new EmployeePageDto(List.of(), null, dataVersion), result);
+        InOrder inOrder = inOrder(employeeRepository);
+        inOrder.verify(employeeRepository).dataVersion();
+        inOrder.verify(employeeRepository).findByCriteria(any(), eq(0L), eq(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testGetEmployeeVersion() {
+        when(employeeRepository.findVersionById(1L)).thenReturn(OptionalLong.of(3));
+        when(employeeRepository.findVersionById(2L)).thenReturn(OptionalLong.empty());
+
+        assertEquals(3, employeeService.getEmployeeVersion(1L));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeVersion(2L));
     }
 
     @Test
     void testSearchEmployeesWithNoResults() {
-        when(employeeRepository.findByPredicate(any())).thenReturn(List.of());
+        when(employeeRepository.findByCriteria(any(), eq(0L), eq(Integer.MAX_VALUE))).thenReturn(List.of());
+
+        EmployeePageDto result = employeeService.searchEmployees(query("Al", BigDecimal.valueOf(80000), BigDecimal.valueOf(100000), null, null));
 
-        List<EmployeeResponseDto> result = employeeService.searchEmployees("Al", BigDecimal.valueOf(80000), BigDecimal.valueOf(100000));
+        assertEquals(new EmployeePageDto(List.of(), null), result);
+        verify(employeeRepository).findByCriteria(any(), eq(0L), eq(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testSearchEmployeesPageByPage() {
+        Employee firstEmployee = createFirstEmployee();
+        Employee secondEmployee = createSecondEmployee();
+        EmployeeResponseDto responseDto = createEmployeeResponseDto();
+
+        when(employeeRepository.findByCriteria(any(), eq(0L), eq(2))).thenReturn(List.of(firstEmployee, secondEmployee));
+        when(employeeJsonCache.get(firstEmployee)).thenReturn(responseDto);
+
+        EmployeePageDto firstPage = employeeService.searchEmployees(query("", BigDecimal.ZERO, BigDecimal.valueOf(5000), null, 1));
+
+        assertEquals(List.of(responseDto), firstPage.employees());
+        assertNotNull(firstPage.nextCursor());
+
+        when(employeeRepository.findByCriteria(any(), eq(firstEmployee.getId()), eq(2))).thenReturn(List.of(secondEmployee));
+
+        EmployeePageDto secondPage = employeeService.searchEmployees(query("", BigDecimal.ZERO, BigDecimal.valueOf(5000), firstPage.nextCursor(), 1));
+
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    void testSearchEmployeesWithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () ->
+                employeeService.searchEmployees(query("", BigDecimal.ZERO, BigDecimal.ONE, "not a cursor!", 10)));
+    }
+
+    @Test
+    void testStreamEmployees() {
+        Employee firstEmployee = createFirstEmployee();
+        EmployeeResponseDto responseDto = createEmployeeResponseDto();
+        List<EmployeeResponseDto> result = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(1);
+            consumer.accept(firstEmployee);
+            return null;
+        }).when(employeeRepository).findByCriteria(any(), any());
+        when(employeeJsonCache.get(firstEmployee)).thenReturn(responseDto);
+
+        employeeService.streamEmployees(
+                new EmployeeSearchCriteria("Moh", BigDecimal.valueOf(500), BigDecimal.valueOf(1500)), result::add);
+
+        assertEquals(List.of(responseDto), result);
+    }
 
-        assertEquals(List.of(), result);
-        verify(employeeRepository).findByPredicate(any());
+    private EmployeeSearchQuery query(String name, BigDecimal fromSalary, BigDecimal toSalary, String cursor, Integer limit) {
+        return new EmployeeSearchQuery(new EmployeeSearchCriteria(name, fromSalary, toSalary), cursor, limit);
     }
 
     private EmployeeRequestDto createEmployeeRequestDto() {
@@ -0,0 +1,59 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.dto.EmployeeStatisticsDto;
+import com.adamonis.employeeservice.dto.EmployeeStatisticsReportDto;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.index.EmployeeStatistics;
+import com.adamonis.employeeservice.repository.index.SalarySketch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeStatisticsServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeStatisticsService employeeStatisticsService;
+
+    @Test
+    void testGetStatistics() {
+        SalarySketch salaries = new SalarySketch();
+        salaries.add(1000);
+        salaries.add(2000);
+        salaries.add(3000);
+        LocalDate joinDate = LocalDate.now().minusDays(730);
+        EmployeeStatistics it = new EmployeeStatistics(3, BigDecimal.valueOf(6000), BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(3000), salaries, 3, joinDate.toEpochDay() * 3, joinDate, joinDate);
+        when(employeeRepository.statistics(any())).thenReturn(EmployeeStatistics.empty());
+        when(employeeRepository.statistics(Department.IT)).thenReturn(it);
+        when(employeeRepository.statistics(null)).thenReturn(it);
+
+        EmployeeStatisticsReportDto report = employeeStatisticsService.getStatistics();
+
+        EmployeeStatisticsDto total = report.total();
+        assertEquals(3, total.headcount());
+        assertEquals(new BigDecimal("2000.00"), total.averageSalary());
+        assertEquals(2000, total.medianSalary().doubleValue(), 20);
+        assertEquals(3000, total.salaryP99().doubleValue(), 30);
+        assertEquals(new BigDecimal("2.00"), total.averageTenureYears());
+        assertEquals(total, report.departments().get(Department.IT));
+
+        EmployeeStatisticsDto finance = report.departments().get(Department.FINANCE);
+        assertEquals(0, finance.headcount());
+        assertNull(finance.averageSalary());
+        assertNull(finance.medianSalary());
+        assertEquals(4, report.departments().size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.adamonis.employeeservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testGetNextIdReservesWholeBlock() throws IOException {
+        Path idFile = directory.resolve("ids.txt");
+        IdGenerator idGenerator = new IdGenerator(idFile.toString(), 10);
+
+        assertEquals(1, idGenerator.getNextId());
+        assertEquals(2, idGenerator.getNextId());
+        assertEquals("10", Files.readString(idFile));
+    }
+
+    @Test
+    void testRestartSkipsUnusedRemainderOfBlock() {
+        String idFile = directory.resolve("ids.txt").toString();
+        new IdGenerator(idFile, 10).getNextId();
+
+        assertEquals(11, new IdGenerator(idFile, 10).getNextId());
+    }
+
+    @Test
+    void testGetNextIdsReturnsConsecutiveRange() throws IOException {
+        Path idFile = directory.resolve("ids.txt");
+        IdGenerator idGenerator = new IdGenerator(idFile.toString(), 10);
+
+        assertEquals(1, idGenerator.getNextIds(25));
+        assertEquals(26, idGenerator.getNextId());
+        assertEquals("34", Files.readString(idFile));
+    }
+
+    @Test
+    void testConcurrentCallersReceiveUniqueIds() throws Exception {
+        IdGenerator idGenerator = new IdGenerator(directory.resolve("ids.txt").toString(), 7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(8000, ids.size());
+    }
+}
@@ -0,0 +1,133 @@
+package com.adamonis.employeeservice.service;
+
+import com.adamonis.employeeservice.config.SearchProperties;
+import com.adamonis.employeeservice.config.StorageProperties;
+import com.adamonis.employeeservice.config.WarmUpProperties;
+import com.adamonis.employeeservice.mapper.EmployeeMapper;
+import com.adamonis.employeeservice.model.Employee;
+import com.adamonis.employeeservice.model.enums.Department;
+import com.adamonis.employeeservice.repository.EmployeeRepository;
+import com.adamonis.employeeservice.repository.EmployeeSearchCriteria;
+import com.adamonis.employeeservice.repository.index.EmployeeStatistics;
+import com.adamonis.employeeservice.repository.storage.FsyncPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeJsonCache employeeJsonCache;
+
+    private final WarmUpProperties warmUpProperties = new WarmUpProperties();
+
+    private WarmUpRunner warmUpRunner;
+
+    @BeforeEach
+    void setUp() {
+        warmUpRunner = new WarmUpRunner(warmUpProperties, employeeRepository, employeeService,
+                new ObjectMapper().findAndRegisterModules(), employeeJsonCache);
+    }
+
+    @Test
+    void testWarmUpRunsSearchesAndLookupsAndCachesConfiguredQueries() throws Exception {
+        Employee employee = Employee.builder().id(7L).firstName("Mohamed").lastName("Ahmed").build();
+        WarmUpProperties.Query query = new WarmUpProperties.Query();
+        query.setName("Moh");
+        query.setDepartment(Department.IT);
+        query.setLimit(20);
+        warmUpProperties.setQueries(List.of(query));
+        warmUpProperties.setIterations(3);
+
+        when(employeeRepository.latestSequence()).thenReturn(1L);
+        when(employeeJsonCache.capacity()).thenReturn(1_000_000L);
+        when(employeeRepository.findCreatedAfter(0, 1)).thenReturn(List.of(employee));
+        when(employeeRepository.statistics(null)).thenReturn(EmployeeStatistics.empty());
+
+        warmUpRunner.run(null);
+
+        EmployeeSearchCriteria criteria = new EmployeeSearchCriteria("Moh", BigDecimal.ZERO, BigDecimal.ZERO, Department.IT);
+        verify(employeeRepository, times(3)).findByCriteria(criteria, 0, 21);
+        verify(employeeRepository, times(3)).findByCriteria(
+                new EmployeeSearchCriteria("Ahm", BigDecimal.ZERO, BigDecimal.ZERO), 0, 101);
+        verify(employeeService, times(3)).getEmployeesByIds(List.of(7L));
+        verify(employeeService).searchEmployees(new EmployeeSearchQuery(criteria, null, 20));
+        verify(employeeJsonCache).get(employee);
+        verify(employeeRepository, never()).findAll();
+    }
+
+    @Test
+    void testWarmUpSkipsEncodingWhenTheJsonCacheIsDisabled() throws Exception {
+        Employee employee = Employee.builder().id(7L).firstName("Mohamed").lastName("Ahmed").build();
+        warmUpProperties.setIterations(1);
+
+        when(employeeRepository.latestSequence()).thenReturn(1L);
+        when(employeeRepository.findCreatedAfter(0, 1)).thenReturn(List.of(employee));
+        when(employeeRepository.statistics(null)).thenReturn(EmployeeStatistics.empty());
+
+        warmUpRunner.run(null);
+
+        verify(employeeService).getEmployeesByIds(List.of(7L));
+        verify(employeeJsonCache, never()).get(any());
+    }
+
+    @Test
+    void testWarmUpOfEmptyRepositorySkipsSearchesThatCannotMatch(@TempDir Path dataDirectory) throws Exception {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.setDataDirectory(dataDirectory);
+        storageProperties.setFsyncPolicy(FsyncPolicy.NEVER);
+        SearchProperties searchProperties = new SearchProperties();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        WarmUpProperties.Query query = new WarmUpProperties.Query();
+        query.setFromSalary(BigDecimal.valueOf(1000));
+        warmUpProperties.setQueries(List.of(query));
+        warmUpProperties.setIterations(1);
+
+        EmployeeRepository emptyRepository = new EmployeeRepository(objectMapper, storageProperties,
+                searchProperties, new SimpleMeterRegistry());
+        try {
+            EmployeeMapper employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+            EmployeeJsonCache jsonCache = new EmployeeJsonCache(emptyRepository, employeeMapper, objectMapper,
+                    searchProperties, storageProperties);
+            EmployeeService service = new EmployeeService(emptyRepository, employeeMapper,
+                    new EmployeeSearchCacheEvictor(new NoOpCacheManager()), jsonCache);
+
+            // The highest salary of an empty repository is 0, below the minimum of the configured search
+            assertDoesNotThrow(() -> new WarmUpRunner(warmUpProperties, emptyRepository, service, objectMapper,
+                    jsonCache).run(null));
+        } finally {
+            emptyRepository.close();
+        }
+    }
+
+    @Test
+    void testDisabledWarmUpDoesNothing() throws Exception {
+        warmUpProperties.setEnabled(false);
+
+        warmUpRunner.run(null);
+
+        verifyNoInteractions(employeeRepository, employeeService, employeeJsonCache);
+    }
+}